@@ -0,0 +1,76 @@
+package yourssu.backend.benchmark;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import yourssu.backend.common.security.JwtKeyRing;
+import yourssu.backend.common.security.JwtSigningProperties;
+
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 알고리즘별 access token 발급(sign-in), 검증(모든 인증 요청) 비용 측정
+ * 검증 비용 x 인증 요청 QPS가 인증 필터의 CPU 사용량이 됨
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtSigningBenchmark {
+
+    @Param({"HS256", "RS256", "ES256"})
+    private String algorithm;
+
+    private JwtKeyRing keyRing;
+    private JwtParser jwtParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.forName(algorithm);
+        JwtSigningProperties.KeyProperties key;
+
+        if (signatureAlgorithm.isHmac()) {
+            key = new JwtSigningProperties.KeyProperties("key-1", algorithm,
+                    encode(Keys.secretKeyFor(signatureAlgorithm).getEncoded()), null, null);
+        } else {
+            KeyPair keyPair = Keys.keyPairFor(signatureAlgorithm);
+            key = new JwtSigningProperties.KeyProperties("key-1", algorithm, null,
+                    encode(keyPair.getPrivate().getEncoded()), encode(keyPair.getPublic().getEncoded()));
+        }
+
+        keyRing = new JwtKeyRing(new JwtSigningProperties("key-1", List.of(key)));
+        jwtParser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+        token = sign();
+    }
+
+    private static String encode(byte[] key) {
+        return Base64.getEncoder().encodeToString(key);
+    }
+
+    @Benchmark
+    public String sign() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject("access-token")
+                .claim("userId", 1L)
+                .claim("email", "test@mail.com")
+                .claim("username", "user")
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 3_600_000))
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
+                .signWith(keyRing.getSigningKey(), keyRing.getSigningAlgorithm())
+                .compact();
+    }
+
+    @Benchmark
+    public Object verify() {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+}
@@ -0,0 +1,50 @@
+package yourssu.backend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 알고리즘, cost 설정별 해시 생성(sign-up)과 검증(sign-in) 비용 측정
+ * application.yml의 password 설정 기본값과 같은 파라미터 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+    private static final String RAW_PASSWORD = "password1234";
+
+    @Param({"bcrypt-10", "bcrypt-12", "bcrypt-14", "argon2", "pbkdf2"})
+    private String setting;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = switch (setting) {
+            case "bcrypt-10" -> new BCryptPasswordEncoder(10);
+            case "bcrypt-12" -> new BCryptPasswordEncoder(12);
+            case "bcrypt-14" -> new BCryptPasswordEncoder(14);
+            case "argon2" -> new Argon2PasswordEncoder(16, 32, 1, 16384, 2);
+            case "pbkdf2" -> new Pbkdf2PasswordEncoder("", 16, 310000,
+                    Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+            default -> throw new IllegalArgumentException(setting);
+        };
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
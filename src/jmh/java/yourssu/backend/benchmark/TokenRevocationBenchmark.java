@@ -0,0 +1,41 @@
+package yourssu.backend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import yourssu.backend.common.util.BloomFilter;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 폐기되지 않은 토큰(대부분의 요청)의 폐기 여부 확인 비용 측정
+ * application.yml의 jwt.revocation 기본값과 같은 크기로 filter를 채운 상태에서 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenRevocationBenchmark {
+    private static final int REVOKED_COUNT = 100_000;
+
+    private BloomFilter filter;
+    private String[] activeTokenIds;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        filter = BloomFilter.create(REVOKED_COUNT, 0.001);
+        for (int i = 0; i < REVOKED_COUNT; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        activeTokenIds = new String[1024];
+        for (int i = 0; i < activeTokenIds.length; i++) {
+            activeTokenIds[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @Benchmark
+    public boolean mightContainNegative() {
+        index = (index + 1) & (activeTokenIds.length - 1);
+        return filter.mightContain(activeTokenIds[index]);
+    }
+}
@@ -0,0 +1,60 @@
+package yourssu.backend.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import yourssu.backend.common.util.CounterBuffer;
+import yourssu.backend.domain.service.ViewCountTracker;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 32개 스레드가 동시에 조회수를 증가시키는 경우의 비용
+ * hotKey: 모든 스레드가 하나의 인기 게시글을 조회
+ * spreadKeys: 1024개 게시글에 고르게 분산
+ * merge: 비교용, ConcurrentHashMap.merge로 같은 bin의 lock을 잡고 증가
+ * recordView: 유저별 중복 제거를 포함한 ViewCountTracker 전체 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(32)
+public class ViewCountBenchmark {
+    private static final Long HOT_ARTICLE_ID = 1L;
+    private static final int ARTICLE_COUNT = 1024;
+
+    private CounterBuffer buffer;
+    private ConcurrentHashMap<Long, Long> mergeCounts;
+    private ViewCountTracker tracker;
+
+    @Setup
+    public void setUp() {
+        buffer = new CounterBuffer();
+        mergeCounts = new ConcurrentHashMap<>();
+        // flush하지 않으므로 repository 없이 생성
+        tracker = new ViewCountTracker(null, new SimpleMeterRegistry(), Duration.ofMinutes(30), 1_000_000);
+    }
+
+    @Benchmark
+    public void hotKey() {
+        buffer.add(HOT_ARTICLE_ID, 1);
+    }
+
+    @Benchmark
+    public void spreadKeys() {
+        buffer.add((long) ThreadLocalRandom.current().nextInt(ARTICLE_COUNT), 1);
+    }
+
+    @Benchmark
+    public void mergeHotKey() {
+        mergeCounts.merge(HOT_ARTICLE_ID, 1L, Long::sum);
+    }
+
+    @Benchmark
+    public boolean recordView() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return tracker.recordView((long) random.nextInt(ARTICLE_COUNT), (long) random.nextInt(100_000));
+    }
+}
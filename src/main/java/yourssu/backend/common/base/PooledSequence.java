@@ -0,0 +1,21 @@
+package yourssu.backend.common.base;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/*
+ * PooledSequenceGenerator로 id를 생성하는 식별자에 지정
+ * @param name 사용할 sequence (MySQL에서는 sequence 테이블) 이름
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface PooledSequence {
+    String name();
+}
@@ -0,0 +1,49 @@
+package yourssu.backend.common.cache;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/*
+ * Hibernate second-level cache 항목 제거
+ * 일괄 UPDATE, DELETE처럼 엔티티 상태 변경을 거치지 않는 수정은 read-write 전략이 캐시를 갱신하지 못하므로 직접 제거
+ */
+public class EntityCacheEvictor {
+    private final Cache cache;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache();
+    }
+
+    /*
+     * 엔티티 캐시 제거
+     * 트랜잭션 중이라면 커밋 이후에도 한 번 더 제거해 변경 전 데이터가 다시 캐싱되는 것을 방지
+     * @param entityClass
+     * @param id
+     */
+    public void evict(Class<?> entityClass, Object id) {
+        runNowAndAfterCompletion(() -> cache.evict(entityClass, id));
+    }
+
+    // 일괄 변경 대상 id를 미리 조회한 경우 해당 항목만 제거
+    public void evict(Class<?> entityClass, Collection<?> ids) {
+        if (!ids.isEmpty()) {
+            runNowAndAfterCompletion(() -> ids.forEach(id -> cache.evict(entityClass, id)));
+        }
+    }
+
+    private void runNowAndAfterCompletion(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+        eviction.run();
+    }
+}
@@ -1,20 +1,28 @@
 package yourssu.backend.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import yourssu.backend.common.security.*;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
 @Configuration
@@ -23,25 +31,53 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 public class SecurityConfig {
     private final CustomUserDetailService customUserDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final ObjectMapper objectMapper;
 
-    @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    @Value("${password.encoding-id}")
+    private String encodingId;
+    @Value("${password.bcrypt.strength}")
+    private int bcryptStrength;
+    @Value("${password.argon2.memory-kb}")
+    private int argon2MemoryKb;
+    @Value("${password.argon2.iterations}")
+    private int argon2Iterations;
+    @Value("${password.pbkdf2.iterations}")
+    private int pbkdf2Iterations;
+    @Value("${password.executor.pool-size}")
+    private int hashingPoolSize;
+    @Value("${password.executor.queue-capacity}")
+    private int hashingQueueCapacity;
 
+    /*
+     * {id} prefix로 해시 알고리즘을 구분하는 PasswordEncoder
+     * 로그인 성공 시 encoding-id, cost 설정과 다른 해시는 PasswordEncodingUpgrader가 비동기로 재해싱
+     * 해싱은 요청 스레드가 아닌 BoundedPasswordEncoder의 전용 스레드 풀에서 실행
+     */
     @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
-        return authenticationConfiguration.getAuthenticationManager();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        BCryptPasswordEncoder bcryptEncoder = new BCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcryptEncoder);
+        encoders.put("argon2", new Argon2PasswordEncoder(16, 32, 1, argon2MemoryKb, argon2Iterations));
+        encoders.put("pbkdf2", new Pbkdf2PasswordEncoder("", 16, pbkdf2Iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        // prefix 없이 저장된 기존 해시는 bcrypt로 검증
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcryptEncoder);
+        return new BoundedPasswordEncoder(passwordEncoder, hashingPoolSize, hashingQueueCapacity, meterRegistry);
     }
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(){
-        return new JwtAuthenticationFilter(jwtTokenProvider);
+        return new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationList);
     }
 
     @Bean
     public AuthenticationEntryPoint authenticationEntryPoint() {
-        return new JwtAuthenticationEntryPoint();
+        return new JwtAuthenticationEntryPoint(objectMapper);
     }
 
     @Bean
@@ -66,9 +102,7 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests((authorizeHttpRequests) ->
                         authorizeHttpRequests
-                                .requestMatchers("/api/v1/sign-up").permitAll()
-                                .requestMatchers("/api/v1/sign-in").permitAll()
-                                .requestMatchers("/docs/**").permitAll()
+                                .requestMatchers(PermitAllRoutes.MATCHER).permitAll()
                                 .anyRequest().authenticated()
                 )
                 .addFilterBefore(
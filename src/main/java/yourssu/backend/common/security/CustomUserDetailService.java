@@ -1,29 +1,124 @@
 package yourssu.backend.common.security;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import yourssu.backend.common.exception.GeneralException;
 import yourssu.backend.common.status.ErrorStatus;
 import yourssu.backend.domain.entity.User;
 import yourssu.backend.domain.repository.UserRepository;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final Cache<String, UserPrincipal> principalByEmail;
+    private final Cache<String, UserPrincipal> principalByUsername;
+    // 조회 도중 제거된 principal이 다시 캐싱되지 않도록 제거할 때마다 증가
+    private final AtomicLong generation = new AtomicLong();
+
+    public CustomUserDetailService(UserRepository userRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${jwt.principal-cache.max-size}") long maxSize,
+                                   @Value("${jwt.principal-cache.ttl}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.principalByEmail = createCache(maxSize, ttl);
+        this.principalByUsername = createCache(maxSize, ttl);
+
+        // hit ratio, load latency 등의 통계를 metrics로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, principalByEmail, "userPrincipalByEmail");
+        CaffeineCacheMetrics.monitor(meterRegistry, principalByUsername, "userPrincipalByUsername");
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = findUserByEmail(email);
-        return UserPrincipal.create(user);
+        return getOrLoad(principalByEmail, email, () -> UserPrincipal.create(findUserByEmail(email)));
     }
 
     public UserDetails loadUserByName(String username) throws UsernameNotFoundException {
-        User user = findUserByUsername(username);
-        return UserPrincipal.create(user);
+        return getOrLoad(principalByUsername, username, () -> UserPrincipal.create(findUserByUsername(username)));
+    }
+
+    /*
+     * 로그인 성공 시 저장된 해시가 현재 PasswordEncoder 설정과 다르면 PasswordEncodingUpgrader가 호출
+     * 새로운 알고리즘, cost로 재해싱한 비밀번호를 저장하고 캐시된 principal 제거
+     * 엔티티 변경으로 수정해 read-write 캐시는 region 전체가 아닌 해당 User만 커밋 시 갱신됨
+     * @param user
+     * @param newPassword
+     * @return
+     */
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserPrincipal userPrincipal = (UserPrincipal) user;
+        User target = userRepository.findById(userPrincipal.getUserId())
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND_USER));
+        target.updatePassword(newPassword);
+        evict(target.getEmail(), target.getUsername());
+
+        return UserPrincipal.create(target);
+    }
+
+    /*
+     * 탈퇴 등으로 더 이상 유효하지 않은 유저의 캐시를 제거
+     * 트랜잭션 중이라면 커밋 이후에 제거해 삭제 전 데이터가 다시 캐싱되는 것을 방지
+     * @param email
+     * @param username
+     */
+    public void evict(String email, String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(email, username);
+                }
+            });
+        }
+        invalidate(email, username);
+    }
+
+    private void invalidate(String email, String username) {
+        generation.incrementAndGet();
+        principalByEmail.invalidate(email);
+        principalByUsername.invalidate(username);
+    }
+
+    /*
+     * Cache.get(key, loader)는 ConcurrentHashMap.compute의 synchronized 블록 안에서 DB를 조회해
+     * virtual thread 모드에서 carrier thread가 고정되므로, 조회는 캐시 밖에서 수행
+     * 동시에 miss가 발생하면 같은 유저를 중복 조회할 수 있지만 결과는 동일
+     * 조회 도중 evict가 일어났다면 조회 결과가 이전 데이터일 수 있으므로 캐싱하지 않고 반환만 함
+     */
+    private UserPrincipal getOrLoad(Cache<String, UserPrincipal> cache, String key, Supplier<UserPrincipal> loader) {
+        UserPrincipal cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadedGeneration = generation.get();
+        UserPrincipal loaded = loader.get();
+        // generation 확인과 저장을 compute 안에서 함께 수행해 그 사이의 evict를 놓치지 않음
+        cache.asMap().compute(key, (k, current) -> generation.get() == loadedGeneration ? loaded : current);
+        return loaded;
+    }
+
+    private Cache<String, UserPrincipal> createCache(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
     }
 
     private User findUserByEmail(String email){
@@ -0,0 +1,66 @@
+package yourssu.backend.common.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import yourssu.backend.domain.entity.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+// 단일 인스턴스 배포, 테스트용 구현체로 재시작 시 모든 refresh token이 폐기됨
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token-store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+    private final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        tokens.put(refreshToken.getTokenId(), refreshToken);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenId(String tokenId) {
+        return Optional.ofNullable(tokens.get(tokenId))
+                .filter(refreshToken -> !refreshToken.isExpired(LocalDateTime.now()));
+    }
+
+    @Override
+    public boolean markUsed(String tokenId) {
+        AtomicBoolean marked = new AtomicBoolean(false);
+        tokens.computeIfPresent(tokenId, (id, refreshToken) -> {
+            marked.set(refreshToken.markUsed());
+            return refreshToken;
+        });
+        return marked.get();
+    }
+
+    @Override
+    public List<RefreshToken> revokeFamily(String familyId) {
+        return removeAll(refreshToken -> refreshToken.getFamilyId().equals(familyId));
+    }
+
+    @Override
+    public List<RefreshToken> revokeAll(Long userId) {
+        return removeAll(refreshToken -> refreshToken.getUserId().equals(userId));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-cleanup-interval-ms}")
+    public void deleteExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        tokens.values().removeIf(refreshToken -> refreshToken.isExpired(now));
+    }
+
+    private List<RefreshToken> removeAll(Predicate<RefreshToken> condition) {
+        return tokens.values().stream()
+                .filter(condition)
+                .filter(refreshToken -> tokens.remove(refreshToken.getTokenId(), refreshToken))
+                .toList();
+    }
+}
@@ -0,0 +1,62 @@
+package yourssu.backend.common.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import yourssu.backend.domain.entity.RefreshToken;
+import yourssu.backend.domain.repository.RefreshTokenRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh-token-store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    @Transactional
+    public void save(RefreshToken refreshToken) {
+        refreshTokenRepository.save(refreshToken);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RefreshToken> findByTokenId(String tokenId) {
+        return refreshTokenRepository.findById(tokenId)
+                .filter(refreshToken -> !refreshToken.isExpired(LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional
+    public boolean markUsed(String tokenId) {
+        return refreshTokenRepository.markUsed(tokenId) == 1;
+    }
+
+    @Override
+    @Transactional
+    public List<RefreshToken> revokeFamily(String familyId) {
+        List<RefreshToken> refreshTokens = refreshTokenRepository.findAllByFamilyId(familyId);
+        refreshTokenRepository.deleteAllByFamilyId(familyId);
+        return refreshTokens;
+    }
+
+    @Override
+    @Transactional
+    public List<RefreshToken> revokeAll(Long userId) {
+        List<RefreshToken> refreshTokens = refreshTokenRepository.findAllByUserId(userId);
+        refreshTokenRepository.deleteAllByUserId(userId);
+        return refreshTokens;
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-cleanup-interval-ms}")
+    public void deleteExpired() {
+        refreshTokenRepository.deleteAllExpired(LocalDateTime.now());
+    }
+}
@@ -1,17 +1,55 @@
 package yourssu.backend.common.security;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
+import yourssu.backend.common.response.ApiResponse;
+import yourssu.backend.common.status.ErrorStatus;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
 
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
+    // 실패 원인별 응답 body를 기동 시 한 번만 직렬화
+    private final Map<JwtValidationResult.Status, byte[]> responses = new EnumMap<>(JwtValidationResult.Status.class);
+    private final byte[] unauthorizedResponse;
+
+    public JwtAuthenticationEntryPoint(ObjectMapper objectMapper) {
+        for (JwtValidationResult.Status status : JwtValidationResult.Status.values()) {
+            if (status.getErrorStatus() != null) {
+                responses.put(status, serialize(objectMapper, status.getErrorStatus()));
+            }
+        }
+        this.unauthorizedResponse = serialize(objectMapper, ErrorStatus.UNAUTHORIZED);
+    }
+
     @Override
     public void commence(HttpServletRequest request,
                          HttpServletResponse response,
                          AuthenticationException authException) throws IOException {
-        response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+        // 토큰이 없는 요청은 JwtAuthenticationFilter가 attribute를 남기지 않음
+        Object status = request.getAttribute(JwtValidationResult.ATTRIBUTE);
+        byte[] body = status instanceof JwtValidationResult.Status validationStatus
+                ? responses.getOrDefault(validationStatus, unauthorizedResponse)
+                : unauthorizedResponse;
+
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] serialize(ObjectMapper objectMapper, ErrorStatus errorStatus) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.ErrorResponse(errorStatus));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to serialize authentication error response", e);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package yourssu.backend.common.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,29 +17,52 @@ import java.io.IOException;
 @RequiredArgsConstructor
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        String token = resolveToken(request);
+        String authorization = request.getHeader("Authorization");
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(authorization)) {
+            String token = resolveToken(authorization);
+            JwtValidationResult result = token == null ? JwtValidationResult.malformed() : jwtTokenProvider.validateToken(token);
+            if (result.isValid() && isRevoked(result.claims())) {
+                result = JwtValidationResult.revoked();
+            }
+
+            if (result.isValid()) {
+                Authentication authentication = jwtTokenProvider.getAuthentication(result.claims());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            } else {
+                // 인증이 필요한 경로라면 JwtAuthenticationEntryPoint가 실패 원인별 응답 반환
+                request.setAttribute(JwtValidationResult.ATTRIBUTE, result.status());
+            }
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private String resolveToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
+    // permitAll 경로는 인증 정보를 사용하지 않으므로 Authorization header를 파싱하지 않고 통과
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PermitAllRoutes.MATCHER.matches(request);
+    }
+
+    // jti가 없는 이전 토큰은 폐기 대상이 아님
+    private boolean isRevoked(Claims claims) {
+        String tokenId = claims.getId();
+        return tokenId != null && tokenRevocationList.isRevoked(tokenId);
+    }
 
-        if(StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer")){
-            return bearerToken.substring(7);
-        } else {
+    // "Bearer " prefix가 없거나 뒤에 토큰이 없는 header는 예외 없이 형식 오류로 처리
+    private String resolveToken(String authorization) {
+        if (!authorization.startsWith(BEARER_PREFIX) || authorization.length() == BEARER_PREFIX.length()) {
             return null;
         }
+        return authorization.substring(BEARER_PREFIX.length());
     }
 }
@@ -0,0 +1,128 @@
+package yourssu.backend.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * kid별 서명, 검증 key 보관
+ * 기동 시 모든 key를 미리 생성해 불변 Map에 보관하고, 검증 시에는 header의 kid로 조회만 수행
+ * key 교체 시 새 key를 추가하고 active-kid를 변경한 뒤, 이전 key로 서명된 토큰이 모두 만료되면 이전 key 제거
+ */
+@Component
+@EnableConfigurationProperties(JwtSigningProperties.class)
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+    private final Map<String, VerificationKey> verificationKeys;
+    private final String activeKid;
+    private final SignatureAlgorithm signingAlgorithm;
+    private final Key signingKey;
+
+    public JwtKeyRing(JwtSigningProperties properties) {
+        Map<String, VerificationKey> keys = new HashMap<>();
+        SignatureAlgorithm activeAlgorithm = null;
+        Key activeKey = null;
+
+        for (JwtSigningProperties.KeyProperties key : properties.keys()) {
+            SignatureAlgorithm algorithm = SignatureAlgorithm.forName(key.algorithm());
+            if (keys.put(key.kid(), new VerificationKey(algorithm, toVerificationKey(algorithm, key))) != null) {
+                throw new IllegalStateException("duplicate jwt kid: " + key.kid());
+            }
+
+            if (key.kid().equals(properties.activeKid())) {
+                activeAlgorithm = algorithm;
+                activeKey = toSigningKey(algorithm, key);
+            }
+        }
+
+        if (activeAlgorithm == null) {
+            throw new IllegalStateException("jwt active kid is not registered: " + properties.activeKid());
+        }
+
+        this.verificationKeys = Map.copyOf(keys);
+        this.activeKid = properties.activeKid();
+        this.signingAlgorithm = activeAlgorithm;
+        this.signingKey = activeKey;
+    }
+
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    public SignatureAlgorithm getSigningAlgorithm() {
+        return signingAlgorithm;
+    }
+
+    public Key getSigningKey() {
+        if (signingKey == null) {
+            throw new IllegalStateException("jwt private key is not configured: " + activeKid);
+        }
+        return signingKey;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        // kid가 없는 이전 토큰은 active key로 검증
+        String kid = header.getKeyId() != null ? header.getKeyId() : activeKid;
+        VerificationKey key = verificationKeys.get(kid);
+
+        // header의 alg를 신뢰하지 않고 key에 등록된 알고리즘과 일치하는 경우만 허용
+        if (key == null || !key.algorithm().getValue().equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("Unknown jwt signing key");
+        }
+        return key.key();
+    }
+
+    private Key toVerificationKey(SignatureAlgorithm algorithm, JwtSigningProperties.KeyProperties key) {
+        if (algorithm.isHmac()) {
+            return Keys.hmacShaKeyFor(Decoders.BASE64.decode(key.secret()));
+        }
+
+        try {
+            return keyFactory(algorithm).generatePublic(new X509EncodedKeySpec(Decoders.BASE64.decode(key.publicKey())));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("invalid jwt public key: " + key.kid(), e);
+        }
+    }
+
+    private Key toSigningKey(SignatureAlgorithm algorithm, JwtSigningProperties.KeyProperties key) {
+        if (algorithm.isHmac()) {
+            return Keys.hmacShaKeyFor(Decoders.BASE64.decode(key.secret()));
+        }
+        if (key.privateKey() == null) {
+            return null;
+        }
+
+        try {
+            return keyFactory(algorithm).generatePrivate(new PKCS8EncodedKeySpec(Decoders.BASE64.decode(key.privateKey())));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("invalid jwt private key: " + key.kid(), e);
+        }
+    }
+
+    private KeyFactory keyFactory(SignatureAlgorithm algorithm) throws GeneralSecurityException {
+        if (algorithm.isRsa()) {
+            return KeyFactory.getInstance("RSA");
+        }
+        if (algorithm.isEllipticCurve()) {
+            return KeyFactory.getInstance("EC");
+        }
+        throw new IllegalStateException("unsupported jwt algorithm: " + algorithm);
+    }
+
+    private record VerificationKey(SignatureAlgorithm algorithm, Key key) {
+    }
+}
@@ -0,0 +1,23 @@
+package yourssu.backend.common.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/*
+ * jwt.signing 설정
+ * @param activeKid 새로 발급하는 토큰을 서명할 key의 kid
+ * @param keys 검증에 사용할 key 목록
+ */
+@ConfigurationProperties(prefix = "jwt.signing")
+public record JwtSigningProperties(String activeKid, List<KeyProperties> keys) {
+
+    /*
+     * @param algorithm HS256, RS256, ES256
+     * @param secret HS256 비밀 키 (base64)
+     * @param privateKey RS256, ES256 개인 키 (PKCS#8 DER, base64), 서명하지 않는 인스턴스는 생략
+     * @param publicKey RS256, ES256 공개 키 (X.509 DER, base64)
+     */
+    public record KeyProperties(String kid, String algorithm, String secret, String privateKey, String publicKey) {
+    }
+}
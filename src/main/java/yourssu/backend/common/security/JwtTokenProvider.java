@@ -1,8 +1,13 @@
 package yourssu.backend.common.security;
 
-import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -11,107 +16,230 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import yourssu.backend.common.exception.GeneralException;
+import yourssu.backend.common.status.ErrorStatus;
 import yourssu.backend.domain.converter.TokenConverter;
 import yourssu.backend.domain.dto.response.TokenDto;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
+    private static final String ACCESS_TOKEN_SUBJECT = "access-token";
+    private static final String REFRESH_TOKEN_SUBJECT = "refresh-token";
+    // 정상 토큰 길이를 크게 넘는 값은 파싱하지 않음
+    private static final int MAX_TOKEN_LENGTH = 4096;
     @Value("${jwt.access-expiration-ms}")
     private long ACCESS_EXPIRATION_MS;
     @Value("${jwt.refresh-expiration-ms}")
     private long REFRESH_EXPIRATION_MS;
-    @Value("${jwt.secret-key}")
-    private String secretKey;
-    private SecretKey key;
+    @Value("${jwt.stateless-principal}")
+    private boolean statelessPrincipal;
+    private JwtParser jwtParser;
+    private final JwtKeyRing keyRing;
     private final CustomUserDetailService userDetailService;
+    private final TokenClaimsCache claimsCache;
+    private final RefreshTokenStore refreshTokenStore;
+
+    @PostConstruct
+    public void init() {
+        // parser는 thread-safe하므로 한 번만 생성해 재사용, 검증 key는 header의 kid로 선택
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyRing)
+                .build();
+    }
 
     @Transactional
     public TokenDto createToken(Authentication authentication){
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String authorities = getAuthorities(authentication);
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        return createToken(userPrincipal, getAuthorities(authentication), newFamilyId());
+    }
 
-        String username = userDetails.getUsername();
+    // 로그인 시 새로운 refresh token family 생성
+    public TokenDto createToken(UserPrincipal userPrincipal){
+        return createToken(userPrincipal, "", newFamilyId());
+    }
+
+    // refresh token rotation 시 기존 family를 유지해 재사용 감지에 사용
+    public TokenDto rotateToken(UserPrincipal userPrincipal, String familyId){
+        return createToken(userPrincipal, "", familyId);
+    }
 
+    private TokenDto createToken(UserPrincipal userPrincipal, String authorities, String familyId){
         Long now = System.currentTimeMillis();
-        String accessToken = createAccessToken(username, authorities, now);
-        String refreshToken = createRefreshToken(now);
+        String accessTokenId = UUID.randomUUID().toString();
+        Date accessExpiration = new Date(now + ACCESS_EXPIRATION_MS);
+        String accessToken = createAccessToken(userPrincipal, authorities, accessTokenId, accessExpiration, now);
+        String refreshToken = createRefreshToken(userPrincipal, familyId, accessTokenId, accessExpiration, now);
 
         return TokenConverter.toTokenDto(accessToken, refreshToken);
     }
 
-    public boolean validateToken(String token){
-        try{
-            getClaims(token);
-            return true;
-        } catch (UnsupportedJwtException | MalformedJwtException | ExpiredJwtException e) {
-            throw new JwtException("Validate Access Token Exception");
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("IllegalArgumentException");
+    /*
+     * access token 검증
+     * 형식이 잘못된 토큰, 만료된 토큰, 캐싱된 토큰은 예외 없이 결과 반환
+     * @param token
+     * @return
+     */
+    public JwtValidationResult validateToken(String token){
+        JwtValidationResult result = validate(token);
+
+        // refresh token으로는 인증할 수 없도록 access token만 허용
+        if (result.isValid() && !ACCESS_TOKEN_SUBJECT.equals(result.claims().getSubject())) {
+            return JwtValidationResult.malformed();
         }
+        return result;
     }
 
-    public Authentication getAuthentication(String accessToken) {
-        Claims claims = getClaims(accessToken);
-        String username = claims.get("username").toString();
-        UserDetails userDetails = userDetailService.loadUserByName(username);
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = getUserDetails(claims);
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    /*
+     * refresh token 서명, 만료 검증 후 claims 반환
+     * access token 검증과 달리 만료된 토큰은 허용하지 않음
+     * @param refreshToken
+     * @return
+     */
+    public Claims getRefreshTokenClaims(String refreshToken) {
+        JwtValidationResult result = validate(refreshToken);
+        if (!result.isValid()) {
+            throw new GeneralException(ErrorStatus.INVALID_REFRESH_TOKEN);
+        }
+
+        Claims claims = result.claims();
+        if (!REFRESH_TOKEN_SUBJECT.equals(claims.getSubject()) || claims.getId() == null
+                || claims.get("family", String.class) == null || claims.get("userId", Long.class) == null) {
+            throw new GeneralException(ErrorStatus.INVALID_REFRESH_TOKEN);
+        }
+        return claims;
+    }
+
+    public UserPrincipal getUserPrincipal(Claims claims) {
+        return UserPrincipal.create(claims.get("userId", Long.class),
+                claims.get("email", String.class), claims.get("username", String.class));
+    }
+
+    private UserDetails getUserDetails(Claims claims) {
+        String username = claims.get("username", String.class);
+        Long userId = claims.get("userId", Long.class);
+
+        // stateless 모드에서는 claims만으로 principal 생성, userId가 없는 이전 토큰은 DB 조회
+        if (statelessPrincipal && userId != null) {
+            return UserPrincipal.create(userId, claims.get("email", String.class), username);
+        }
+        return userDetailService.loadUserByName(username);
+    }
+
     private String getAuthorities(Authentication authentication){
         return authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
     }
 
-    private Claims getClaims(String token){
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
+    private JwtValidationResult validate(String token){
+        if (!isWellFormed(token)) {
+            return JwtValidationResult.malformed();
         }
+
+        Claims claims = claimsCache.get(token);
+        if (claims == null) {
+            // 형식 검사를 통과한 위조 토큰만 예외가 발생
+            try {
+                claims = jwtParser.parseClaimsJws(token).getBody();
+            } catch (ExpiredJwtException e) {
+                return JwtValidationResult.expired();
+            } catch (SignatureException e) {
+                return JwtValidationResult.badSignature();
+            } catch (JwtException | IllegalArgumentException e) {
+                return JwtValidationResult.malformed();
+            }
+            claimsCache.put(token, claims);
+        }
+
+        // 캐싱된 claims는 parser를 거치지 않으므로 만료 여부를 직접 확인
+        Date expiration = claims.getExpiration();
+        if (expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return JwtValidationResult.expired();
+        }
+        return JwtValidationResult.valid(claims);
     }
 
-    private String createAccessToken(String username, String authorities, Long now){
+    // header.payload.signature 구조와 base64url 문자만 확인해 파싱할 필요 없는 값을 걸러냄
+    private boolean isWellFormed(String token){
+        int length = token.length();
+        if (length == 0 || length > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+
+        int dots = 0;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                // 빈 segment 허용하지 않음
+                if (++dots > 2 || i == 0 || token.charAt(i - 1) == '.') {
+                    return false;
+                }
+            } else if (!isBase64Url(c)) {
+                return false;
+            }
+        }
+        return dots == 2 && token.charAt(length - 1) != '.';
+    }
+
+    private boolean isBase64Url(char c){
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+
+    private String createAccessToken(UserPrincipal userPrincipal, String authorities,
+                                     String tokenId, Date expiration, Long now){
         return Jwts.builder()
-                .setSubject("access-token")
-                .claim("username", username)
+                .setSubject(ACCESS_TOKEN_SUBJECT)
+                .setId(tokenId)
+                .claim("userId", userPrincipal.getUserId())
+                .claim("email", userPrincipal.getEmail())
+                .claim("username", userPrincipal.getUsername())
                 .claim("auth", authorities)
                 .setIssuedAt(new Date(now))
-                .setExpiration(new Date(now + ACCESS_EXPIRATION_MS))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(expiration)
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
+                .signWith(keyRing.getSigningKey(), keyRing.getSigningAlgorithm())
                 .compact();
     }
 
-    private String createRefreshToken(Long now){
+    private String createRefreshToken(UserPrincipal userPrincipal, String familyId,
+                                      String accessTokenId, Date accessExpiration, Long now){
+        String tokenId = UUID.randomUUID().toString();
+        Date expiration = new Date(now + REFRESH_EXPIRATION_MS);
+        // 탈퇴, 재사용 감지 시 함께 발급된 access token을 폐기할 수 있도록 jti 보관
+        refreshTokenStore.save(TokenConverter.toRefreshToken(tokenId, familyId, userPrincipal.getUserId(),
+                expiration, accessTokenId, accessExpiration));
+
+        // 갱신 시 DB 조회 없이 access token을 발급할 수 있도록 유저 정보 포함
         return Jwts.builder()
-                .setSubject("refresh-token")
+                .setSubject(REFRESH_TOKEN_SUBJECT)
+                .setId(tokenId)
+                .claim("family", familyId)
+                .claim("userId", userPrincipal.getUserId())
+                .claim("email", userPrincipal.getEmail())
+                .claim("username", userPrincipal.getUsername())
                 .setIssuedAt(new Date(now))
-                .setExpiration(new Date(now + REFRESH_EXPIRATION_MS))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(expiration)
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
+                .signWith(keyRing.getSigningKey(), keyRing.getSigningAlgorithm())
                 .compact();
     }
 
-    private SecretKey getSigningKey() {
-        if (key == null) {
-            synchronized (this) {
-                if (key == null) {
-                    key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
-                }
-            }
-        }
-        return key;
+    private String newFamilyId() {
+        return UUID.randomUUID().toString();
     }
 
+
 }
 
 
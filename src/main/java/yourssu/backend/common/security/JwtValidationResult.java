@@ -0,0 +1,56 @@
+package yourssu.backend.common.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import yourssu.backend.common.status.ErrorStatus;
+
+/*
+ * 토큰 검증 결과
+ * 잘못된 토큰마다 예외를 생성하지 않도록 실패 결과는 미리 생성한 인스턴스를 재사용
+ */
+public record JwtValidationResult(Status status, Claims claims) {
+    // 인증 실패 시 JwtAuthenticationEntryPoint에 실패 원인을 전달하는 request attribute
+    public static final String ATTRIBUTE = JwtValidationResult.class.getName();
+
+    private static final JwtValidationResult EXPIRED = new JwtValidationResult(Status.EXPIRED, null);
+    private static final JwtValidationResult MALFORMED = new JwtValidationResult(Status.MALFORMED, null);
+    private static final JwtValidationResult BAD_SIGNATURE = new JwtValidationResult(Status.BAD_SIGNATURE, null);
+    private static final JwtValidationResult REVOKED = new JwtValidationResult(Status.REVOKED, null);
+
+    @Getter
+    @AllArgsConstructor
+    public enum Status {
+        VALID(null),
+        EXPIRED(ErrorStatus.EXPIRED_TOKEN),
+        MALFORMED(ErrorStatus.MALFORMED_TOKEN),
+        BAD_SIGNATURE(ErrorStatus.INVALID_TOKEN_SIGNATURE),
+        REVOKED(ErrorStatus.REVOKED_TOKEN);
+
+        private final ErrorStatus errorStatus;
+    }
+
+    public static JwtValidationResult valid(Claims claims) {
+        return new JwtValidationResult(Status.VALID, claims);
+    }
+
+    public static JwtValidationResult expired() {
+        return EXPIRED;
+    }
+
+    public static JwtValidationResult malformed() {
+        return MALFORMED;
+    }
+
+    public static JwtValidationResult badSignature() {
+        return BAD_SIGNATURE;
+    }
+
+    public static JwtValidationResult revoked() {
+        return REVOKED;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
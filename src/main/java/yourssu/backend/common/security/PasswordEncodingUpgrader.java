@@ -0,0 +1,25 @@
+package yourssu.backend.common.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PasswordEncodingUpgrader {
+    private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailService customUserDetailService;
+
+    /*
+     * 현재 알고리즘, cost 설정으로 재해싱한 비밀번호 저장
+     * 로그인 응답이 재해싱을 기다리지 않도록 @Async 실행 (virtual thread 모드에서는 virtual thread에서 실행)
+     * 실패하더라도 다음 로그인 시 다시 시도
+     * @param userPrincipal
+     * @param rawPassword
+     */
+    @Async
+    public void upgrade(UserPrincipal userPrincipal, String rawPassword) {
+        customUserDetailService.updatePassword(userPrincipal, passwordEncoder.encode(rawPassword));
+    }
+}
@@ -0,0 +1,28 @@
+package yourssu.backend.common.security;
+
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
+
+/*
+ * 인증 없이 접근 가능한 경로
+ * SecurityConfig의 permitAll 설정과 JwtAuthenticationFilter의 토큰 검증 생략에 같은 matcher 사용
+ */
+public final class PermitAllRoutes {
+    public static final String[] PATTERNS = {
+            "/api/v1/sign-up",
+            "/api/v1/sign-in",
+            "/api/v1/token/refresh",
+            "/docs/**"
+    };
+
+    // 요청마다 pattern을 파싱하지 않도록 기동 시 한 번만 생성
+    public static final RequestMatcher MATCHER = new OrRequestMatcher(Arrays.stream(PATTERNS)
+            .<RequestMatcher>map(AntPathRequestMatcher::antMatcher)
+            .toList());
+
+    private PermitAllRoutes() {
+    }
+}
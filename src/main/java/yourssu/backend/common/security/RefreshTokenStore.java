@@ -0,0 +1,26 @@
+package yourssu.backend.common.security;
+
+import yourssu.backend.domain.entity.RefreshToken;
+
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 발급한 refresh token의 rotation 상태를 보관하는 저장소
+ * jwt.refresh-token-store 설정으로 구현체 선택 (memory, jpa)
+ */
+public interface RefreshTokenStore {
+    void save(RefreshToken refreshToken);
+
+    Optional<RefreshToken> findByTokenId(String tokenId);
+
+    // 사용되지 않은 토큰을 사용 처리, 이미 사용됐거나 존재하지 않으면 false
+    boolean markUsed(String tokenId);
+
+    // 재사용이 감지된 경우 같은 family의 토큰을 모두 폐기하고, 함께 발급된 access token 폐기를 위해 반환
+    List<RefreshToken> revokeFamily(String familyId);
+
+    List<RefreshToken> revokeAll(Long userId);
+
+    void deleteExpired();
+}
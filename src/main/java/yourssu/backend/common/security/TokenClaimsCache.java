@@ -0,0 +1,107 @@
+package yourssu.backend.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class TokenClaimsCache {
+    private final Cache<String, CachedClaims> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TokenClaimsCache(@Value("${jwt.claims-cache.max-size}") long maxSize,
+                            MeterRegistry meterRegistry) {
+        // 항목마다 토큰의 exp까지만 유지하고, 가득 차면 Caffeine이 사용 빈도 기준으로 제거
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        this.hitCounter = meterRegistry.counter("jwt.claims.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.claims.cache", "result", "miss");
+        // size, eviction 등의 통계를 metrics로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtClaims");
+    }
+
+    /*
+     * 검증이 끝난 토큰의 claims 조회, 캐시에 없거나 만료된 경우 null 반환
+     * @param token
+     * @return
+     */
+    public Claims get(String token) {
+        CachedClaims cached = cache.getIfPresent(digest(token));
+
+        if (cached == null) {
+            missCounter.increment();
+            return null;
+        }
+
+        hitCounter.increment();
+        return cached.claims();
+    }
+
+    /*
+     * 서명 검증이 끝난 claims를 토큰의 exp까지 캐싱
+     * @param token
+     * @param claims
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+
+        if (expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        cache.put(digest(token), new CachedClaims(claims, expiration.getTime()));
+    }
+
+    // 만료, 크기 초과 항목을 정리한 뒤의 항목 수
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private record CachedClaims(Claims claims, long expiresAt) {
+    }
+
+    // 저장 시점부터 토큰의 exp까지 남은 시간만큼 유지, 조회, 갱신으로는 연장하지 않음
+    private static class TokenExpiry implements Expiry<String, CachedClaims> {
+        @Override
+        public long expireAfterCreate(String key, CachedClaims value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
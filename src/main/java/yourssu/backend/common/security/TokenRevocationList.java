@@ -0,0 +1,131 @@
+package yourssu.backend.common.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import yourssu.backend.common.util.BloomFilter;
+import yourssu.backend.domain.entity.RefreshToken;
+import yourssu.backend.domain.entity.RevokedToken;
+import yourssu.backend.domain.repository.RevokedTokenRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * jti 기준 access token 폐기 목록
+ * 요청마다 DB를 조회하지 않도록 bloom filter에 없는 토큰은 바로 통과시키고,
+ * filter에 있는 경우(폐기 또는 오탐)에만 DB 조회
+ */
+@Component
+public class TokenRevocationList {
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedInsertions;
+    private final double fpp;
+    // 이 인스턴스에서 폐기가 커밋된 토큰, filter를 재구성해도 누락되지 않도록 보관
+    private final Map<String, LocalDateTime> localRevocations = new ConcurrentHashMap<>();
+    private final Counter negativeCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter revokedCounter;
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${jwt.revocation.expected-insertions}") int expectedInsertions,
+                               @Value("${jwt.revocation.fpp}") double fpp) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.negativeCounter = meterRegistry.counter("jwt.revocation.check", "result", "negative");
+        this.falsePositiveCounter = meterRegistry.counter("jwt.revocation.check", "result", "false-positive");
+        this.revokedCounter = meterRegistry.counter("jwt.revocation.check", "result", "revoked");
+        this.filter = BloomFilter.create(expectedInsertions, fpp);
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    /*
+     * 폐기된 토큰인지 확인
+     * @param tokenId
+     * @return
+     */
+    public boolean isRevoked(String tokenId) {
+        if (!filter.mightContain(tokenId)) {
+            negativeCounter.increment();
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime localExpiresAt = localRevocations.get(tokenId);
+        boolean revoked = (localExpiresAt != null && localExpiresAt.isAfter(now))
+                || revokedTokenRepository.existsByTokenIdAndExpiresAtAfter(tokenId, now);
+
+        (revoked ? revokedCounter : falsePositiveCounter).increment();
+        return revoked;
+    }
+
+    /*
+     * access token 폐기, 토큰의 exp가 지나면 목록에서 제거
+     * 트랜잭션이 rollback되면 폐기되지 않도록 localRevocations에는 커밋된 경우에만 반영
+     * filter는 커밋 직후에도 누락되지 않도록 미리 추가, rollback되더라도 DB 조회로 오탐 처리됨
+     * @param tokenId
+     * @param expiresAt
+     */
+    @Transactional
+    public void revoke(String tokenId, LocalDateTime expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(LocalDateTime.now())) {
+            return;
+        }
+
+        filter.put(tokenId);
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .build());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                localRevocations.put(tokenId, expiresAt);
+                filter.put(tokenId);
+            }
+        });
+    }
+
+    // 폐기한 refresh token과 함께 발급된 access token 폐기
+    @Transactional
+    public void revokeAll(List<RefreshToken> refreshTokens) {
+        refreshTokens.forEach(refreshToken ->
+                revoke(refreshToken.getAccessTokenId(), refreshToken.getAccessTokenExpiresAt()));
+    }
+
+    /*
+     * 만료된 항목을 정리하고 filter 재구성
+     * 다른 인스턴스에서 폐기한 토큰도 이 시점에 filter에 반영됨
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms}", initialDelayString = "${jwt.revocation.sync-interval-ms}")
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.deleteAllExpired(now);
+        localRevocations.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        BloomFilter rebuilt = BloomFilter.create(expectedInsertions, fpp);
+        revokedTokenRepository.findAllTokenIdByExpiresAtAfter(now).forEach(rebuilt::put);
+        localRevocations.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+
+        // 재구성 중 폐기된 토큰은 이전 filter에만 추가됐을 수 있으므로 다시 반영
+        localRevocations.keySet().forEach(rebuilt::put);
+    }
+}
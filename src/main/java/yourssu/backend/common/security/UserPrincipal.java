@@ -1,39 +1,36 @@
 package yourssu.backend.common.security;
 
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import yourssu.backend.domain.entity.User;
 
 import java.util.Collection;
 
-@RequiredArgsConstructor
+@Getter
+@AllArgsConstructor
 public class UserPrincipal implements UserDetails {
-    private final User user;
+    private final Long userId;
+    private final String email;
+    private final String username;
+    private final String password;
 
-    public static UserPrincipal create(User user) {
-        return new UserPrincipal(user);
-    }
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        return null;
+    public UserPrincipal(User user) {
+        this(user.getUserId(), user.getEmail(), user.getUsername(), user.getPassword());
     }
 
-    public User getUser(){
-        return user;
+    public static UserPrincipal create(User user) {
+        return new UserPrincipal(user);
     }
 
-    @Override
-    public String getPassword() {
-        return user.getPassword();
+    // access token의 claims로 생성하는 경우, DB 조회 없이 비밀번호를 제외한 정보만 보관
+    public static UserPrincipal create(Long userId, String email, String username) {
+        return new UserPrincipal(userId, email, username, null);
     }
 
     @Override
-    public String getUsername() {
-        return user.getUsername();
-    }
-
-    public String getEmail() {
-        return user.getEmail();
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return null;
     }
 }
@@ -22,6 +22,21 @@ public enum ErrorStatus implements BaseErrorCode {
 
     INVALID_TITLE(HttpStatus.BAD_REQUEST, 400, "유효하지 않은 title 형식입니다."),
     INVALID_CONTENT(HttpStatus.BAD_REQUEST, 400, "유효하지 않은 content 형식입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, 400, "유효하지 않은 cursor 형식입니다."),
+    INVALID_BULK_REQUEST(HttpStatus.BAD_REQUEST, 400, "유효하지 않은 bulk 요청 형식입니다."),
+    INVALID_BULK_ITEM(HttpStatus.BAD_REQUEST, 400, "유효하지 않은 게시글 형식입니다."),
+    TOO_MANY_BULK_ITEMS(HttpStatus.BAD_REQUEST, 400, "한 번에 작성할 수 있는 개수를 초과했습니다."),
+
+    /**
+     * 401
+     */
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, 401, "인증이 필요합니다."),
+    EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, 401, "만료된 토큰입니다."),
+    MALFORMED_TOKEN(HttpStatus.UNAUTHORIZED, 401, "유효하지 않은 토큰 형식입니다."),
+    INVALID_TOKEN_SIGNATURE(HttpStatus.UNAUTHORIZED, 401, "토큰 서명이 유효하지 않습니다."),
+    REVOKED_TOKEN(HttpStatus.UNAUTHORIZED, 401, "폐기된 토큰입니다. 다시 로그인해주세요."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, 401, "유효하지 않은 refresh token입니다."),
+    REUSED_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, 401, "이미 사용된 refresh token입니다. 다시 로그인해주세요."),
 
     /**
      * 403
@@ -35,7 +50,17 @@ public enum ErrorStatus implements BaseErrorCode {
      */
     NOT_FOUND_USER(HttpStatus.NOT_FOUND, 404, "존재하지 않는 유저입니다."),
     NOT_FOUND_ARTICLE(HttpStatus.NOT_FOUND, 404, "존재하지 않는 게시글입니다."),
-    NOT_FOUND_COMMENT(HttpStatus.NOT_FOUND, 404, "존재하지 않는 댓글입니다.");
+    NOT_FOUND_COMMENT(HttpStatus.NOT_FOUND, 404, "존재하지 않는 댓글입니다."),
+
+    /**
+     * 500
+     */
+    FAILED_BULK_CHUNK(HttpStatus.INTERNAL_SERVER_ERROR, 500, "게시글을 저장하지 못했습니다."),
+
+    /**
+     * 503
+     */
+    PASSWORD_HASHING_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, 503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
 
 
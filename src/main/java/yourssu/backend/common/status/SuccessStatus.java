@@ -16,11 +16,14 @@ public enum SuccessStatus {
     SIGN_UP_SUCCESS(HttpStatus.OK, 200, "회원가입에 성공했습니다."),
     SIGN_IN_SUCCESS(HttpStatus.OK, 200, "로그인에 성공했습니다."),
     WITHDRAWAL_SUCCESS(HttpStatus.OK, 200, "회원탈퇴에 성공했습니다."),
+    TOKEN_REFRESH_SUCCESS(HttpStatus.OK, 200, "토큰 재발급에 성공했습니다."),
 
     /**
      * Article
      */
+    ARTICLE_GET_SUCCESS(HttpStatus.OK, 200, "게시물 조회에 성공했습니다."),
     ARTICLE_POST_SUCCESS(HttpStatus.OK, 200, "게시물 작성에 성공했습니다."),
+    ARTICLE_BULK_POST_SUCCESS(HttpStatus.OK, 200, "게시물 일괄 작성 요청이 처리되었습니다."),
     ARTICLE_PATCH_SUCCESS(HttpStatus.OK, 200, "게시물 수정에 성공했습니다."),
     ARTICLE_DELETE_SUCCESS(HttpStatus.OK, 200, "게시물 삭제에 성공했습니다."),
 
@@ -28,6 +31,7 @@ public enum SuccessStatus {
      * Comment
      */
     COMMENT_POST_SUCCESS(HttpStatus.OK, 200, "댓글 작성에 성공했습니다."),
+    COMMENT_BULK_POST_SUCCESS(HttpStatus.OK, 200, "댓글 일괄 작성에 성공했습니다."),
     COMMENT_PATCH_SUCCESS(HttpStatus.OK, 200, "댓글 수정에 성공했습니다."),
     COMMENT_DELETE_SUCCESS(HttpStatus.OK, 200, "댓글 삭제에 성공했습니다.");
 
@@ -0,0 +1,66 @@
+package yourssu.backend.common.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * key별 증감량을 메모리에 모아두는 thread-safe 누적기
+ * key마다 LongAdder를 사용해 같은 key에 쓰기가 몰려도 CAS 경합을 cell 단위로 분산
+ */
+public class CounterBuffer {
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /*
+     * drain이 0이 된 LongAdder를 제거한 직후라면 제거된 LongAdder에 더했을 수 있으므로,
+     * 더한 뒤 map에서 제거되었는지 확인하고 남은 값을 현재 LongAdder로 다시 옮김
+     * @param key
+     * @param delta
+     */
+    public void add(Long key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        LongAdder adder = counters.computeIfAbsent(key, k -> new LongAdder());
+        adder.add(delta);
+        if (counters.get(key) != adder) {
+            // sumThenReset은 cell마다 getAndSet으로 비우므로 같은 값이 두 번 옮겨지지 않음
+            add(key, adder.sumThenReset());
+        }
+    }
+
+    /*
+     * 누적된 증감량을 꺼내고 0으로 초기화, 0이 아닌 항목만 key 오름차순으로 반환
+     * 이전 drain 이후 변경이 없던 key는 제거해 메모리가 key 수만큼 계속 늘어나지 않도록 함
+     * 제거 여부는 computeIfPresent 안에서 다시 확인해, 그 사이에 더해진 값이 있으면 유지
+     * @return
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new TreeMap<>();
+        counters.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(key, delta);
+            } else {
+                counters.computeIfPresent(key, (k, current) -> current == adder && current.sum() == 0 ? null : current);
+            }
+        });
+        return deltas;
+    }
+
+    // 반영에 실패한 증감량을 다음 drain에 다시 포함
+    public void addAll(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    public long get(Long key) {
+        LongAdder adder = counters.get(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public int size() {
+        return counters.size();
+    }
+}
@@ -0,0 +1,38 @@
+package yourssu.backend.common.util;
+
+import yourssu.backend.common.exception.GeneralException;
+import yourssu.backend.common.status.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class CursorUtil {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /*
+     * 마지막으로 조회한 PK를 클라이언트에 노출하지 않도록 불투명한 cursor 문자열로 변환
+     * @param id
+     * @return
+     */
+    public static String encode(Long id) {
+        return ENCODER.encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /*
+     * cursor 문자열을 PK로 변환, cursor가 없으면 첫 페이지를 의미하는 null 반환
+     * @param cursor
+     * @return
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(new String(DECODER.decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package yourssu.backend.domain.controller;
 
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import yourssu.backend.common.response.ApiResponse;
@@ -9,18 +10,39 @@ import yourssu.backend.common.status.SuccessStatus;
 import yourssu.backend.domain.dto.request.ArticleRequest;
 import yourssu.backend.domain.service.ArticleService;
 
+import java.io.InputStream;
+
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api/v1/article")
 public class ArticleController {
     private final ArticleService articleService;
 
+    @GetMapping()
+    public ApiResponse getArticleList(@RequestParam(name = "cursor", required = false) String cursor,
+                                      @RequestParam(name = "size", defaultValue = "20") int size){
+        return ApiResponse.SuccessResponse(SuccessStatus.ARTICLE_GET_SUCCESS, articleService.getArticleList(cursor, size));
+    }
+
+    @GetMapping("/{articleId}")
+    public ApiResponse getArticle(@PathVariable(name = "articleId") Long articleId,
+                                  @RequestParam(name = "commentSize", defaultValue = "20") int commentSize,
+                                  @AuthenticationPrincipal UserPrincipal userprincipal){
+        return ApiResponse.SuccessResponse(SuccessStatus.ARTICLE_GET_SUCCESS, articleService.getArticle(articleId, commentSize, userprincipal));
+    }
+
     @PostMapping()
     public ApiResponse postArticle(@RequestBody ArticleRequest.ArticleDto articleDto,
                                    @AuthenticationPrincipal UserPrincipal userprincipal){
         return ApiResponse.SuccessResponse(SuccessStatus.ARTICLE_POST_SUCCESS, articleService.postArticle(articleDto, userprincipal));
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ApiResponse postArticleBulk(InputStream inputStream,
+                                       @AuthenticationPrincipal UserPrincipal userprincipal){
+        return ApiResponse.SuccessResponse(SuccessStatus.ARTICLE_BULK_POST_SUCCESS, articleService.postArticleBulk(inputStream, userprincipal));
+    }
+
     @PatchMapping("/{articleId}")
     public ApiResponse patchArticle(@RequestBody ArticleRequest.ArticleDto articleDto,
                                     @PathVariable(name = "articleId") Long articleId,
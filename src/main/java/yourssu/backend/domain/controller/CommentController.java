@@ -21,6 +21,12 @@ public class CommentController {
         return ApiResponse.SuccessResponse(SuccessStatus.COMMENT_POST_SUCCESS, commentService.postComment(commentDto, userprincipal));
     }
 
+    @PostMapping("/bulk")
+    public ApiResponse postCommentBulk(@RequestBody CommentRequest.PostCommentBulkDto commentBulkDto,
+                                       @AuthenticationPrincipal UserPrincipal userprincipal){
+        return ApiResponse.SuccessResponse(SuccessStatus.COMMENT_BULK_POST_SUCCESS, commentService.postCommentBulk(commentBulkDto, userprincipal));
+    }
+
     @PatchMapping("/{commentId}")
     public ApiResponse patchComment(@RequestBody CommentRequest.PatchCommentDto commentDto,
                                     @PathVariable(name = "commentId") Long commentId,
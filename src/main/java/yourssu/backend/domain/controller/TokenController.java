@@ -0,0 +1,20 @@
+package yourssu.backend.domain.controller;
+
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import yourssu.backend.common.response.ApiResponse;
+import yourssu.backend.common.status.SuccessStatus;
+import yourssu.backend.domain.dto.request.TokenRequest;
+import yourssu.backend.domain.service.TokenService;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/v1/token")
+public class TokenController {
+    private final TokenService tokenService;
+
+    @PostMapping("/refresh")
+    public ApiResponse refresh(@RequestBody TokenRequest.RefreshDto refreshDto){
+        return ApiResponse.SuccessResponse(SuccessStatus.TOKEN_REFRESH_SUCCESS, tokenService.refresh(refreshDto));
+    }
+}
@@ -1,9 +1,15 @@
 package yourssu.backend.domain.converter;
 
+import yourssu.backend.common.status.ErrorStatus;
+import yourssu.backend.common.util.CursorUtil;
 import yourssu.backend.domain.dto.response.ArticleResponse;
+import yourssu.backend.domain.dto.response.CommentResponse;
 import yourssu.backend.domain.entity.Article;
+import yourssu.backend.domain.entity.ArticleCount;
 import yourssu.backend.domain.entity.User;
 
+import java.util.List;
+
 public class ArticleConverter {
     public static Article toArticle(String title, String content, User user){
         return Article.builder()
@@ -13,6 +19,12 @@ public class ArticleConverter {
                 .build();
     }
 
+    public static ArticleCount toArticleCount(Article article) {
+        return ArticleCount.builder()
+                .article(article)
+                .build();
+    }
+
     public static ArticleResponse.ArticleDto toArticleDto(Article article) {
         return ArticleResponse.ArticleDto.builder()
                 .articleId(article.getArticleId())
@@ -21,4 +33,64 @@ public class ArticleConverter {
                 .content(article.getContent())
                 .build();
     }
+
+    // 작성자 정보를 이미 알고 있는 경우 User 프록시를 초기화하지 않도록 email을 직접 전달
+    public static ArticleResponse.ArticleDto toArticleDto(Article article, String email) {
+        return ArticleResponse.ArticleDto.builder()
+                .articleId(article.getArticleId())
+                .email(email)
+                .title(article.getTitle())
+                .content(article.getContent())
+                .build();
+    }
+
+    public static ArticleResponse.ArticleDetailDto toArticleDetailDto(ArticleResponse.ArticleDto article,
+                                                                      List<CommentResponse.CommentDto> commentList) {
+        return ArticleResponse.ArticleDetailDto.builder()
+                .articleId(article.getArticleId())
+                .email(article.getEmail())
+                .title(article.getTitle())
+                .content(article.getContent())
+                .commentList(commentList)
+                .build();
+    }
+
+    // size + 1개를 조회한 결과에서 다음 페이지 존재 여부와 cursor를 계산
+    public static ArticleResponse.ArticleListDto toArticleListDto(List<ArticleResponse.ArticleSummaryDto> articles, int size) {
+        boolean hasNext = articles.size() > size;
+        List<ArticleResponse.ArticleSummaryDto> articleList = hasNext ? articles.subList(0, size) : articles;
+        String nextCursor = hasNext ? CursorUtil.encode(articleList.get(size - 1).getArticleId()) : null;
+
+        return ArticleResponse.ArticleListDto.builder()
+                .articleList(articleList)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    public static ArticleResponse.BulkItemDto toBulkItemDto(int index, Long articleId) {
+        return ArticleResponse.BulkItemDto.builder()
+                .index(index)
+                .success(true)
+                .articleId(articleId)
+                .build();
+    }
+
+    public static ArticleResponse.BulkItemDto toBulkItemDto(int index, ErrorStatus errorStatus) {
+        return ArticleResponse.BulkItemDto.builder()
+                .index(index)
+                .success(false)
+                .message(errorStatus.getMessage())
+                .build();
+    }
+
+    public static ArticleResponse.BulkResultDto toBulkResultDto(List<ArticleResponse.BulkItemDto> itemList) {
+        int successCount = (int) itemList.stream().filter(ArticleResponse.BulkItemDto::getSuccess).count();
+
+        return ArticleResponse.BulkResultDto.builder()
+                .successCount(successCount)
+                .failureCount(itemList.size() - successCount)
+                .itemList(itemList)
+                .build();
+    }
 }
@@ -22,4 +22,13 @@ public class CommentConverter {
                 .content(comment.getContent())
                 .build();
     }
+
+    // 작성자 정보를 이미 알고 있는 경우 User 프록시를 초기화하지 않도록 email을 직접 전달
+    public static CommentResponse.CommentDto toCommentDto(Comment comment, String email) {
+        return CommentResponse.CommentDto.builder()
+                .commentId(comment.getCommentId())
+                .email(email)
+                .content(comment.getContent())
+                .build();
+    }
 }
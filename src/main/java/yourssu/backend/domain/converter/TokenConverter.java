@@ -1,6 +1,11 @@
 package yourssu.backend.domain.converter;
 
 import yourssu.backend.domain.dto.response.TokenDto;
+import yourssu.backend.domain.entity.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
 
 public class TokenConverter {
     public static TokenDto toTokenDto(String accessToken, String refreshToken){
@@ -9,4 +14,21 @@ public class TokenConverter {
                 .refreshToken(refreshToken)
                 .build();
     }
+
+    public static RefreshToken toRefreshToken(String tokenId, String familyId, Long userId, Date expiration,
+                                              String accessTokenId, Date accessExpiration){
+        return RefreshToken.builder()
+                .tokenId(tokenId)
+                .familyId(familyId)
+                .userId(userId)
+                .used(false)
+                .expiresAt(toLocalDateTime(expiration))
+                .accessTokenId(accessTokenId)
+                .accessTokenExpiresAt(toLocalDateTime(accessExpiration))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date){
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
 }
@@ -1,21 +1,35 @@
 package yourssu.backend.domain.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 public class CommentRequest {
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
     public static class PostCommentDto {
-        @NotBlank
+        @NotNull
         private Long articleId;
         @NotBlank
         private String content;
     }
 
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PostCommentBulkDto {
+        @NotNull
+        private Long articleId;
+        @NotEmpty
+        private List<String> contentList;
+    }
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,16 @@
+package yourssu.backend.domain.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+public class TokenRequest {
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RefreshDto {
+        @NotBlank
+        private String refreshToken;
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 public class ArticleResponse {
 
     @Data
@@ -17,4 +19,60 @@ public class ArticleResponse {
         private String title;
         private String content;
     }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ArticleSummaryDto {
+        private Long articleId;
+        private String email;
+        private String title;
+        private String content;
+        private Long commentCount;
+        private Long viewCount;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ArticleListDto {
+        private List<ArticleSummaryDto> articleList;
+        private String nextCursor;
+        private Boolean hasNext;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ArticleDetailDto {
+        private Long articleId;
+        private String email;
+        private String title;
+        private String content;
+        private List<CommentResponse.CommentDto> commentList;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkResultDto {
+        private Integer successCount;
+        private Integer failureCount;
+        private List<BulkItemDto> itemList;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkItemDto {
+        private Integer index;
+        private Boolean success;
+        private Long articleId;
+        private String message;
+    }
 }
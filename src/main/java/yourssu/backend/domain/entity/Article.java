@@ -5,18 +5,23 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import yourssu.backend.common.base.BaseEntity;
+import yourssu.backend.common.base.PooledSequence;
 
 import java.util.List;
 
 @Entity
+@NamedEntityGraph(name = "Article.withUser", attributeNodes = @NamedAttributeNode("user"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Article extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "article_seq")
     @Column(nullable = false)
     private Long articleId;
 
@@ -26,7 +31,7 @@ public class Article extends BaseEntity {
     @Column(nullable = false, length = 255)
     private String title;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
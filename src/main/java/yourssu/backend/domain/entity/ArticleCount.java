@@ -0,0 +1,38 @@
+package yourssu.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/*
+ * 게시글의 댓글 수, 조회수
+ * 주기적으로 UPDATE되는 카운터를 second-level cache에 저장되는 Article과 분리해
+ * 카운터 반영 시 인기 게시글의 캐시가 제거되지 않도록 함, JPQL, JDBC UPDATE로만 변경
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleCount {
+    @Id
+    private Long articleId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "article_id")
+    private Article article;
+
+    // 목록 조회 시 Comment를 조회하지 않도록 댓글 수를 비정규화해 저장
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount;
+
+    // 조회마다 쓰지 않도록 ViewCountTracker가 모아서 반영
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long viewCount;
+}
@@ -6,22 +6,24 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import yourssu.backend.common.base.BaseEntity;
+import yourssu.backend.common.base.PooledSequence;
 
 @Entity
+@NamedEntityGraph(name = "Comment.withUser", attributeNodes = @NamedAttributeNode("user"))
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Comment extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "comment_seq")
     @Column(nullable = false)
     private Long commentId;
 
     @Column(nullable = false, length = 255)
     private String content;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -0,0 +1,69 @@
+package yourssu.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import yourssu.backend.common.base.BaseEntity;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_family_id", columnList = "familyId"),
+        @Index(name = "idx_refresh_token_user_id", columnList = "userId")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken extends BaseEntity implements Persistable<String> {
+    // refresh token의 jti
+    @Id
+    @Column(nullable = false, length = 36)
+    private String tokenId;
+
+    // 최초 로그인 시 생성되어 rotation 동안 유지되는 id
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private boolean used;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 함께 발급된 access token의 jti, exp
+    @Column(length = 36)
+    private String accessTokenId;
+
+    private LocalDateTime accessTokenExpiresAt;
+
+    public boolean markUsed() {
+        if (used) {
+            return false;
+        }
+        used = true;
+        return true;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    @Override
+    public String getId() {
+        return tokenId;
+    }
+
+    // id를 직접 할당하므로 save 시 merge를 위한 SELECT가 발생하지 않도록 생성일 기준으로 판단
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+}
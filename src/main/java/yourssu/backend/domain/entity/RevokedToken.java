@@ -0,0 +1,38 @@
+package yourssu.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import yourssu.backend.common.base.BaseEntity;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken extends BaseEntity implements Persistable<String> {
+    // 폐기된 access token의 jti
+    @Id
+    @Column(nullable = false, length = 36)
+    private String tokenId;
+
+    // access token의 exp, 이후에는 토큰 자체가 만료되므로 삭제
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Override
+    public String getId() {
+        return tokenId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+}
@@ -5,21 +5,37 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import yourssu.backend.common.base.BaseEntity;
+import yourssu.backend.common.base.PooledSequence;
 
 import java.util.List;
 
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = User.UK_USERNAME, columnNames = "username")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class User extends BaseEntity {
+    public static final String UK_EMAIL = "uk_user_email";
+    public static final String UK_USERNAME = "uk_user_username";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "user_seq")
     @Column(nullable = false)
     private Long userId;
 
+    // 로그인 시 email로 조회하므로 natural id로 지정해 id 변환 결과도 캐싱
+    @NaturalId
     @Column(nullable = false, length = 255)
     private String email;
 
@@ -35,4 +51,7 @@ public class User extends BaseEntity {
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "user")
     private List<Comment> commentList;
 
+    public void updatePassword(String password) {
+        this.password = password;
+    }
 }
@@ -0,0 +1,6 @@
+package yourssu.backend.domain.repository;
+
+// JPQL 일괄 삭제 시 Article 캐시 region 전체가 비워지지 않도록 JDBC로 삭제하는 ArticleRepository 확장
+public interface ArticleBulkDeleteRepository {
+    int deleteAllByUserId(Long userId);
+}
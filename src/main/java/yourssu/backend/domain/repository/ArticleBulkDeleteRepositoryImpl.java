@@ -0,0 +1,56 @@
+package yourssu.backend.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+import yourssu.backend.common.cache.EntityCacheEvictor;
+import yourssu.backend.domain.entity.Article;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ArticleBulkDeleteRepositoryImpl implements ArticleBulkDeleteRepository {
+    private static final String SELECT_ARTICLE_ID_SQL = "select article_id from article where user_id = ?";
+    private static final String DELETE_ARTICLE_SQL = "delete from article where user_id = ?";
+
+    private final EntityManager entityManager;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    // repository fragment에서만 사용하므로 bean으로 등록하지 않고 EntityManagerFactory로 직접 생성
+    public ArticleBulkDeleteRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.entityCacheEvictor = new EntityCacheEvictor(entityManager.getEntityManagerFactory());
+    }
+
+    /*
+     * 유저의 게시글을 일괄 삭제 후 삭제된 게시글 수 반환
+     * JPQL 일괄 삭제는 Hibernate가 Article 캐시 region 전체를 비우므로 JDBC로 삭제하고, 삭제한 게시글만 캐시에서 제거
+     * 댓글, 카운터는 호출자가 먼저 삭제
+     * @param userId
+     * @return
+     */
+    @Override
+    @Transactional
+    public int deleteAllByUserId(Long userId) {
+        List<Long> articleIds = new ArrayList<>();
+        int deleted = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement select = connection.prepareStatement(SELECT_ARTICLE_ID_SQL);
+                 PreparedStatement delete = connection.prepareStatement(DELETE_ARTICLE_SQL)) {
+                select.setLong(1, userId);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        articleIds.add(resultSet.getLong(1));
+                    }
+                }
+
+                delete.setLong(1, userId);
+                return delete.executeUpdate();
+            }
+        });
+
+        entityCacheEvictor.evict(Article.class, articleIds);
+        return deleted;
+    }
+}
@@ -0,0 +1,27 @@
+package yourssu.backend.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import yourssu.backend.domain.entity.ArticleCount;
+
+public interface ArticleCountRepository extends JpaRepository<ArticleCount, Long>, ArticleCounterRepository {
+
+    // 탈퇴한 유저가 다른 게시글에 작성한 댓글 수만큼 차감, 댓글 삭제 전에 실행
+    @Modifying
+    @Query("update ArticleCount ac set ac.commentCount = ac.commentCount - " +
+            "(select count(c) from Comment c where c.article.articleId = ac.articleId and c.user.userId = :userId) " +
+            "where ac.articleId in (select c.article.articleId from Comment c where c.user.userId = :userId)")
+    int decreaseCommentCountByCommentUserId(@Param("userId") Long userId);
+
+    // Article을 참조하므로 게시글 삭제 전에 실행
+    @Modifying
+    @Query("delete from ArticleCount ac where ac.articleId = :articleId")
+    int deleteByArticleId(@Param("articleId") Long articleId);
+
+    @Modifying
+    @Query("delete from ArticleCount ac where ac.articleId in " +
+            "(select a.articleId from Article a where a.user.userId = :userId)")
+    int deleteAllByArticleUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,12 @@
+package yourssu.backend.domain.repository;
+
+import java.util.Map;
+
+// JPQL로 표현하기 어려운 다건 카운터 반영을 JDBC batch로 처리하는 ArticleCountRepository 확장
+public interface ArticleCounterRepository {
+    void addCommentCounts(Map<Long, Long> deltas);
+
+    void addViewCounts(Map<Long, Long> deltas);
+
+    int reconcileCommentCounts(Long fromArticleId, Long toArticleId);
+}
@@ -0,0 +1,89 @@
+package yourssu.backend.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.Map;
+
+/*
+ * ArticleCount는 second-level cache에 저장하지 않으므로 JDBC로 직접 수정해도 제거할 캐시가 없고,
+ * JPQL 일괄 UPDATE와 달리 Hibernate가 캐시 region을 비우지 않음
+ */
+@RequiredArgsConstructor
+public class ArticleCounterRepositoryImpl implements ArticleCounterRepository {
+    private static final String ADD_COMMENT_COUNT_SQL =
+            "update article_count set comment_count = comment_count + ? where article_id = ?";
+    private static final String ADD_VIEW_COUNT_SQL =
+            "update article_count set view_count = view_count + ? where article_id = ?";
+    // 카운터 row가 없는 게시글은 0으로 생성한 뒤 보정
+    private static final String INSERT_MISSING_COUNT_SQL =
+            "insert into article_count (article_id, comment_count, view_count) " +
+            "select a.article_id, 0, 0 from article a " +
+            "where a.article_id between ? and ? " +
+            "and not exists (select 1 from article_count ac where ac.article_id = a.article_id)";
+    private static final String RECONCILE_COMMENT_COUNT_SQL =
+            "update article_count ac set comment_count = " +
+            "(select count(*) from comment c where c.article_id = ac.article_id) " +
+            "where ac.article_id between ? and ? " +
+            "and ac.comment_count <> (select count(*) from comment c where c.article_id = ac.article_id)";
+
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void addCommentCounts(Map<Long, Long> deltas) {
+        addCounts(ADD_COMMENT_COUNT_SQL, deltas);
+    }
+
+    @Override
+    @Transactional
+    public void addViewCounts(Map<Long, Long> deltas) {
+        addCounts(ADD_VIEW_COUNT_SQL, deltas);
+    }
+
+    /*
+     * 주어진 범위의 게시글 댓글 수를 실제 Comment 개수로 보정, 보정된 게시글 수 반환
+     * 배치마다 트랜잭션을 나눠 lock을 짧게 유지
+     * @param fromArticleId
+     * @param toArticleId
+     * @return
+     */
+    @Override
+    @Transactional
+    public int reconcileCommentCounts(Long fromArticleId, Long toArticleId) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_MISSING_COUNT_SQL);
+                 PreparedStatement update = connection.prepareStatement(RECONCILE_COMMENT_COUNT_SQL)) {
+                insert.setLong(1, fromArticleId);
+                insert.setLong(2, toArticleId);
+                insert.executeUpdate();
+
+                update.setLong(1, fromArticleId);
+                update.setLong(2, toArticleId);
+                return update.executeUpdate();
+            }
+        });
+    }
+
+    /*
+     * 게시글별 증감량을 하나의 JDBC batch로 반영
+     * 여러 인스턴스가 동시에 반영해도 deadlock이 생기지 않도록 호출자가 PK 순서로 전달
+     * @param sql
+     * @param deltas
+     */
+    private void addCounts(String sql, Map<Long, Long> deltas) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+                    statement.setLong(1, entry.getValue());
+                    statement.setLong(2, entry.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
@@ -1,7 +1,36 @@
 package yourssu.backend.domain.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import yourssu.backend.domain.dto.response.ArticleResponse;
 import yourssu.backend.domain.entity.Article;
 
-public interface ArticleRepository extends JpaRepository<Article, Long> {
+import java.util.List;
+import java.util.Optional;
+
+public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleBulkDeleteRepository {
+
+    // 작성자 이메일이 필요한 DTO 변환용으로 user를 함께 조회
+    @EntityGraph("Article.withUser")
+    Optional<Article> findWithUserByArticleId(Long articleId);
+
+    // PK 기준 keyset pagination, comment 테이블을 조회하지 않도록 비정규화한 댓글 수, 조회수와 필요한 컬럼만 projection
+    // 카운터 row가 아직 없는 게시글도 조회되도록 left join
+    @Query("select new yourssu.backend.domain.dto.response.ArticleResponse$ArticleSummaryDto(" +
+            "a.articleId, u.email, a.title, a.content, coalesce(ac.commentCount, 0L), coalesce(ac.viewCount, 0L)) " +
+            "from Article a join a.user u left join ArticleCount ac on ac.articleId = a.articleId " +
+            "where a.articleId < :cursor " +
+            "order by a.articleId desc")
+    List<ArticleResponse.ArticleSummaryDto> findArticleSummaryDtoList(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select new yourssu.backend.domain.dto.response.ArticleResponse$ArticleDto(a.articleId, u.email, a.title, a.content) " +
+            "from Article a join a.user u " +
+            "where a.articleId = :articleId")
+    Optional<ArticleResponse.ArticleDto> findArticleDtoById(@Param("articleId") Long articleId);
+
+    @Query("select a.articleId from Article a where a.articleId > :cursor order by a.articleId")
+    List<Long> findArticleIdList(@Param("cursor") Long cursor, Pageable pageable);
 }
@@ -1,7 +1,41 @@
 package yourssu.backend.domain.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import yourssu.backend.domain.dto.response.CommentResponse;
 import yourssu.backend.domain.entity.Comment;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 작성자 이메일이 필요한 DTO 변환용으로 user를 함께 조회
+    @EntityGraph("Comment.withUser")
+    Optional<Comment> findWithUserByCommentId(Long commentId);
+
+    // 작성자 이메일까지 한 번에 projection해 Comment.user에 대한 N+1 조회 방지
+    @Query("select new yourssu.backend.domain.dto.response.CommentResponse$CommentDto(c.commentId, u.email, c.content) " +
+            "from Comment c join c.user u " +
+            "where c.article.articleId = :articleId " +
+            "order by c.commentId asc")
+    List<CommentResponse.CommentDto> findCommentDtoListByArticleId(@Param("articleId") Long articleId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Comment c where c.article.articleId = :articleId")
+    int deleteAllByArticleId(@Param("articleId") Long articleId);
+
+    @Modifying
+    @Query("delete from Comment c where c.user.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // 해당 유저의 게시글에 달린 다른 유저의 댓글까지 일괄 삭제
+    @Modifying
+    @Query("delete from Comment c where c.article.articleId in " +
+            "(select a.articleId from Article a where a.user.userId = :userId)")
+    int deleteAllByArticleUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,33 @@
+package yourssu.backend.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import yourssu.backend.domain.entity.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+    List<RefreshToken> findAllByFamilyId(String familyId);
+
+    List<RefreshToken> findAllByUserId(Long userId);
+
+    // 사용되지 않은 토큰만 갱신되므로 동시에 같은 토큰으로 요청해도 한 요청만 성공
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken r set r.used = true where r.tokenId = :tokenId and r.used = false")
+    int markUsed(@Param("tokenId") String tokenId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.familyId = :familyId")
+    int deleteAllByFamilyId(@Param("familyId") String familyId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,24 @@
+package yourssu.backend.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import yourssu.backend.domain.entity.RevokedToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    boolean existsByTokenIdAndExpiresAtAfter(String tokenId, LocalDateTime now);
+
+    @Query("select r.tokenId from RevokedToken r where r.expiresAt > :now")
+    List<String> findAllTokenIdByExpiresAtAfter(@Param("now") LocalDateTime now);
+
+    // 기동 시 트랜잭션 밖에서도 호출되므로 자체 트랜잭션 사용
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
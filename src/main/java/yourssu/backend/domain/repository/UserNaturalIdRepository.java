@@ -0,0 +1,10 @@
+package yourssu.backend.domain.repository;
+
+import yourssu.backend.domain.entity.User;
+
+import java.util.Optional;
+
+// email(natural id)로 조회해 second-level cache를 사용하는 UserRepository 확장
+public interface UserNaturalIdRepository {
+    Optional<User> findUserByEmail(String email);
+}
@@ -0,0 +1,29 @@
+package yourssu.backend.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+import yourssu.backend.domain.entity.User;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+    private final EntityManager entityManager;
+
+    /*
+     * 파생 쿼리는 항상 DB를 조회하므로 natural id로 조회
+     * natural id -> id 변환과 엔티티를 각각 캐시에서 찾고, 없는 경우에만 SELECT 1회 실행
+     * 트랜잭션 밖에서 호출되면 unwrap한 Session이 바로 닫히므로 읽기 전용 트랜잭션으로 실행
+     * @param email
+     * @return
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findUserByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
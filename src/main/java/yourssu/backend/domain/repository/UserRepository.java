@@ -5,12 +5,6 @@ import yourssu.backend.domain.entity.User;
 
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Boolean existsUserByUsername(String username);
-
-    Boolean existsUserByEmail(String email);
-
-    Optional<User> findUserByEmail(String email);
-
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
     Optional<User> findUserByUsername(String username);
 }
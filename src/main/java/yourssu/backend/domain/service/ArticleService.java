@@ -1,22 +1,105 @@
 package yourssu.backend.domain.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import yourssu.backend.common.exception.GeneralException;
 import yourssu.backend.common.security.UserPrincipal;
 import yourssu.backend.common.status.ErrorStatus;
+import yourssu.backend.common.util.CursorUtil;
 import yourssu.backend.domain.converter.ArticleConverter;
 import yourssu.backend.domain.dto.request.ArticleRequest;
 import yourssu.backend.domain.dto.response.ArticleResponse;
+import yourssu.backend.domain.dto.response.CommentResponse;
 import yourssu.backend.domain.entity.Article;
 import yourssu.backend.domain.entity.User;
+import yourssu.backend.domain.repository.ArticleCountRepository;
 import yourssu.backend.domain.repository.ArticleRepository;
+import yourssu.backend.domain.repository.CommentRepository;
+import yourssu.backend.domain.repository.UserRepository;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleService {
     private final ArticleRepository articleRepository;
+    private final ArticleCountRepository articleCountRepository;
+    private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final ViewCountTracker viewCountTracker;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${article.bulk.chunk-size}")
+    private int bulkChunkSize;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    // Article.title, Article.content 컬럼 길이
+    private static final int MAX_CONTENT_LENGTH = 255;
+
+    /*
+     * cursor 이후의 게시글을 최신순으로 size개 조회
+     * OFFSET 대신 PK 조건으로 조회해 페이지 위치와 관계없이 일정한 비용으로 조회
+     * @param cursor
+     * @param size
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public ArticleResponse.ArticleListDto getArticleList(String cursor, int size) {
+        Long lastArticleId = CursorUtil.decode(cursor);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<ArticleResponse.ArticleSummaryDto> articles = articleRepository.findArticleSummaryDtoList(
+                lastArticleId != null ? lastArticleId : Long.MAX_VALUE,
+                PageRequest.ofSize(pageSize + 1)
+        );
+
+        return ArticleConverter.toArticleListDto(articles, pageSize);
+    }
+
+    /*
+     * articleId를 받아 게시글과 처음 commentSize개의 댓글 정보 반환
+     * 게시글, 댓글을 각각 작성자와 join한 projection으로 조회해 댓글 수와 관계없이 쿼리 2회로 처리
+     * 조회수는 메모리에 집계한 뒤 주기적으로 반영하므로 조회 시 쓰기가 발생하지 않음
+     * @param articleId
+     * @param commentSize
+     * @param userprincipal
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public ArticleResponse.ArticleDetailDto getArticle(Long articleId, int commentSize, UserPrincipal userprincipal) {
+        ArticleResponse.ArticleDto article = articleRepository.findArticleDtoById(articleId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND_ARTICLE));
+        viewCountTracker.recordView(articleId, userprincipal != null ? userprincipal.getUserId() : null);
+
+        List<CommentResponse.CommentDto> commentList = commentRepository.findCommentDtoListByArticleId(
+                articleId,
+                PageRequest.ofSize(Math.clamp(commentSize, 1, MAX_PAGE_SIZE))
+        );
+
+        return ArticleConverter.toArticleDetailDto(article, commentList);
+    }
 
     /*
      * user 정보, title, content를 받아 게시글을 작성 후 article 정보 반환
@@ -25,7 +108,8 @@ public class ArticleService {
      */
     @Transactional
     public ArticleResponse.ArticleDto postArticle(ArticleRequest.ArticleDto request, UserPrincipal userprincipal){
-        User user = userprincipal.getUser();
+        // 연관관계 설정에는 FK만 필요하므로 User 조회 없이 프록시 사용
+        User user = userRepository.getReferenceById(userprincipal.getUserId());
 
         // dto에서 게시글 정보를 가져와 validation 진행
         String title = validateContent(request.getTitle(), "title");
@@ -34,8 +118,57 @@ public class ArticleService {
         // 게시글 객체 생성 및 연관관계 설정
         Article article = ArticleConverter.toArticle(title, content, user);
         articleRepository.save(article);
+        articleCountRepository.save(ArticleConverter.toArticleCount(article));
 
-        return ArticleConverter.toArticleDto(article);
+        return ArticleConverter.toArticleDto(article, userprincipal.getEmail());
+    }
+
+    /*
+     * JSON 배열 또는 NDJSON 형식의 게시글 목록을 받아 일괄 작성 후 게시글별 결과 반환
+     * 요청 body를 streaming 방식으로 한 건씩 읽고, chunk 단위로 트랜잭션을 나눠 저장해 요청 크기와 관계없이 메모리 사용량 유지
+     * body를 읽는 동안에는 트랜잭션을 열지 않아 업로드가 느려도 DB 커넥션을 점유하지 않음
+     * @param inputStream
+     * @return
+     */
+    public ArticleResponse.BulkResultDto postArticleBulk(InputStream inputStream, UserPrincipal userprincipal) {
+        List<ArticleResponse.BulkItemDto> itemList = new ArrayList<>();
+        List<BulkArticle> chunk = new ArrayList<>(bulkChunkSize);
+        int index = 0;
+
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            JsonToken token = parser.nextToken();
+            // JSON 배열이면 배열 내부의 원소를, NDJSON이면 최상위 객체를 차례로 읽음
+            boolean isArray = token == JsonToken.START_ARRAY;
+            if (isArray) {
+                token = parser.nextToken();
+            }
+
+            while (token != null && token != JsonToken.END_ARRAY) {
+                JsonNode node = parser.readValueAsTree();
+                try {
+                    chunk.add(readBulkArticle(index, node));
+                } catch (GeneralException e) {
+                    itemList.add(ArticleConverter.toBulkItemDto(index, (ErrorStatus) e.getBaseErrorCode()));
+                }
+                index++;
+
+                if (chunk.size() == bulkChunkSize) {
+                    itemList.addAll(saveBulkChunk(chunk, userprincipal.getUserId()));
+                    chunk.clear();
+                }
+                token = parser.nextToken();
+            }
+        } catch (IOException e) {
+            // 하나도 읽지 못했다면 요청 전체를 거부, 이미 읽은 게시글은 저장하고 형식이 깨진 위치를 실패로 반환
+            if (index == 0) {
+                throw new GeneralException(ErrorStatus.INVALID_BULK_REQUEST);
+            }
+            itemList.add(ArticleConverter.toBulkItemDto(index, ErrorStatus.INVALID_BULK_REQUEST));
+        }
+
+        itemList.addAll(saveBulkChunk(chunk, userprincipal.getUserId()));
+        itemList.sort(Comparator.comparing(ArticleResponse.BulkItemDto::getIndex));
+        return ArticleConverter.toBulkResultDto(itemList);
     }
 
     /*
@@ -46,17 +179,15 @@ public class ArticleService {
      */
     @Transactional
     public ArticleResponse.ArticleDto patchArticle(ArticleRequest.ArticleDto request, Long articleId, UserPrincipal userprincipal){
-        User user = userprincipal.getUser();
-
         // 게시글 조회 후 사용자 본인의 글인지 확인
-        Article article = findArticleById(articleId);
-        validateIsUserAuthorized(user, article);
+        Article article = findArticleWithUserById(articleId);
+        validateIsUserAuthorized(userprincipal.getUserId(), article);
 
         // dto에서 게시글 정보를 가져와 validation 진행
         String title = validateContent(request.getTitle(), "title");
         String content = validateContent(request.getContent(), "content");
 
-        // 게시글 수정
+        // 게시글 수정, 엔티티 변경이므로 read-write 캐시는 커밋 시 갱신됨
         article.updateTitle(title);
         article.updateContent(content);
 
@@ -65,37 +196,97 @@ public class ArticleService {
 
     /*
      * user 정보, articleId를 받아 본인의 게시글을 삭제하는 기능
+     * 댓글은 commentList를 로딩해 cascade 삭제하지 않고 일괄 삭제
+     * 게시글은 엔티티로 삭제해 read-write 캐시에서 해당 게시글만 제거되도록 함 (JPQL 일괄 삭제는 캐시 region 전체를 비움)
      * @param request
      * @param articleId
      */
     @Transactional
     public void deleteArticle(Long articleId, UserPrincipal userprincipal){
-        // 사용자 객체 조회
-        User user = userprincipal.getUser();
-
         // 게시글 조회 후 사용자 본인의 글인지 확인
         Article article = findArticleById(articleId);
-        validateIsUserAuthorized(user, article);
+        validateIsUserAuthorized(userprincipal.getUserId(), article);
 
+        commentRepository.deleteAllByArticleId(article.getArticleId());
+        articleCountRepository.deleteByArticleId(article.getArticleId());
         articleRepository.delete(article);
     }
 
+    private BulkArticle readBulkArticle(int index, JsonNode node) {
+        ArticleRequest.ArticleDto request;
+        try {
+            request = objectMapper.treeToValue(node, ArticleRequest.ArticleDto.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new GeneralException(ErrorStatus.INVALID_BULK_ITEM);
+        }
+
+        String title = validateContent(request.getTitle(), "title");
+        String content = validateContent(request.getContent(), "content");
+        return new BulkArticle(index, title, content);
+    }
+
+    /*
+     * chunk마다 트랜잭션을 커밋해 flush 시점의 실패가 이전 chunk를 rollback하지 않도록 함
+     * 실패한 chunk는 전체가 rollback되므로 chunk의 모든 게시글을 실패로 반환
+     * @param chunk
+     * @param userId
+     * @return
+     */
+    private List<ArticleResponse.BulkItemDto> saveBulkChunk(List<BulkArticle> chunk, Long userId) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                // 연관관계 설정에는 FK만 필요하므로 User 조회 없이 프록시 사용
+                User user = userRepository.getReferenceById(userId);
+                List<ArticleResponse.BulkItemDto> savedList = chunk.stream()
+                        .map(item -> {
+                            Article article = articleRepository.save(ArticleConverter.toArticle(item.title(), item.content(), user));
+                            articleCountRepository.save(ArticleConverter.toArticleCount(article));
+                            return ArticleConverter.toBulkItemDto(item.index(), article.getArticleId());
+                        })
+                        .toList();
+
+                entityManager.flush();
+                entityManager.clear();
+                return savedList;
+            });
+        } catch (DataAccessException | PersistenceException | TransactionException e) {
+            log.warn("failed to save bulk articles from index {}", chunk.get(0).index(), e);
+            return chunk.stream()
+                    .map(item -> ArticleConverter.toBulkItemDto(item.index(), ErrorStatus.FAILED_BULK_CHUNK))
+                    .toList();
+        }
+    }
+
+    // 컬럼 길이를 넘는 값은 flush 시점에 실패하지 않도록 미리 거부
     private String validateContent(String content, String fieldName) {
-        if (content.isBlank()) {
+        if (content == null || content.isBlank() || content.codePointCount(0, content.length()) > MAX_CONTENT_LENGTH) {
             ErrorStatus errorStatus = fieldName.equals("title") ? ErrorStatus.INVALID_TITLE : ErrorStatus.INVALID_CONTENT;
             throw new GeneralException(errorStatus);
         }
         return content;
     }
 
-    private void validateIsUserAuthorized(User user, Article article) {
-        if (!article.getUser().getUserId().equals(user.getUserId())) {
+    private void validateIsUserAuthorized(Long userId, Article article) {
+        // user 프록시의 식별자만 사용하므로 User 조회가 발생하지 않음
+        if (!article.getUser().getUserId().equals(userId)) {
             throw new GeneralException(ErrorStatus.FORBIDDEN_PATCH_ARTICLE);
         }
     }
 
+    private Article findArticleWithUserById(Long articleId){
+        return articleRepository.findWithUserByArticleId(articleId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND_ARTICLE));
+    }
+
     private Article findArticleById(Long articleId){
         return articleRepository.findById(articleId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND_ARTICLE));
     }
+
+    private record BulkArticle(int index, String title, String content) {
+    }
 }
@@ -0,0 +1,103 @@
+package yourssu.backend.domain.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import yourssu.backend.common.util.CounterBuffer;
+import yourssu.backend.domain.repository.ArticleCountRepository;
+
+import java.time.Duration;
+import java.util.Map;
+
+/*
+ * 게시글 댓글 수 write-behind 누적기
+ * 댓글마다 같은 게시글 row를 UPDATE하면 인기 게시글에서 row lock 대기로 직렬화되므로,
+ * 증감량을 메모리에 모아 flush-interval-ms마다 하나의 batch로 반영
+ * flush가 성공하는 동안 DB의 댓글 수는 최대 flush-interval-ms + flush 소요 시간만큼 늦게 반영됨
+ */
+@Slf4j
+@Component
+public class CommentCountAccumulator {
+    private final ArticleCountRepository articleCountRepository;
+    private final CounterBuffer buffer = new CounterBuffer();
+    private final Duration flushInterval;
+    private final Timer flushTimer;
+    private volatile long lastFlushedAt = System.currentTimeMillis();
+
+    public CommentCountAccumulator(ArticleCountRepository articleCountRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${article.comment-count.flush-interval-ms}") long flushIntervalMs) {
+        this.articleCountRepository = articleCountRepository;
+        this.flushInterval = Duration.ofMillis(flushIntervalMs);
+        this.flushTimer = meterRegistry.timer("article.comment-count.flush");
+        meterRegistry.gauge("article.comment-count.pending", buffer, CounterBuffer::size);
+        meterRegistry.gauge("article.comment-count.staleness", this, accumulator -> accumulator.getStaleness().toMillis());
+    }
+
+    /*
+     * 게시글의 댓글 수 증감량 누적
+     * 트랜잭션 안에서 호출되면 커밋된 경우에만 반영해 rollback된 댓글이 집계되지 않도록 함
+     * @param articleId
+     * @param delta
+     */
+    public void add(Long articleId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            buffer.add(articleId, delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                buffer.add(articleId, delta);
+            }
+        });
+    }
+
+    /*
+     * 누적된 증감량을 DB에 반영
+     * 실패한 증감량은 다시 누적해 다음 flush에서 재시도
+     */
+    @Scheduled(fixedDelayString = "${article.comment-count.flush-interval-ms}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = buffer.drain();
+        if (deltas.isEmpty()) {
+            lastFlushedAt = System.currentTimeMillis();
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> articleCountRepository.addCommentCounts(deltas));
+            lastFlushedAt = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            log.warn("failed to flush comment counts of {} articles", deltas.size(), e);
+            buffer.addAll(deltas);
+        }
+    }
+
+    // 종료 시 남은 증감량 반영, 이후 유실분은 CommentCountReconciler가 보정
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 아직 DB에 반영되지 않은 증감량
+    public long getPending(Long articleId) {
+        return buffer.get(articleId);
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    // 마지막으로 flush에 성공한 이후 경과 시간, flush가 계속 실패하면 flush-interval-ms를 넘어 증가
+    public Duration getStaleness() {
+        return Duration.ofMillis(System.currentTimeMillis() - lastFlushedAt);
+    }
+}
@@ -0,0 +1,47 @@
+package yourssu.backend.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import yourssu.backend.domain.repository.ArticleCountRepository;
+import yourssu.backend.domain.repository.ArticleRepository;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+    private final ArticleRepository articleRepository;
+    private final ArticleCountRepository articleCountRepository;
+    private final CommentCountAccumulator commentCountAccumulator;
+
+    @Value("${article.comment-count.reconcile-batch-size}")
+    private int batchSize;
+
+    /*
+     * 비정규화한 댓글 수와 실제 Comment 개수가 다른 게시글을 PK 순서대로 batch 단위로 보정
+     * 카운터 row가 없는 게시글은 row를 생성해 보정
+     * 보정 전까지 누적된 증감량이 이중으로 반영되지 않도록 먼저 flush, 보정된 게시글 수 반환
+     * 단, 보정 중 커밋된 댓글 변경은 UPDATE의 count와 이후 flush에 모두 반영될 수 있어
+     * 게시글마다 최대 flush 주기 동안의 변경량만큼 오차가 남을 수 있고, 다음 보정에서 다시 맞춰짐
+     * @return
+     */
+    @Scheduled(cron = "${article.comment-count.reconcile-cron}")
+    public int reconcile() {
+        commentCountAccumulator.flush();
+        int reconciled = 0;
+        Long cursor = 0L;
+
+        while (true) {
+            List<Long> articleIds = articleRepository.findArticleIdList(cursor, PageRequest.of(0, batchSize));
+            if (articleIds.isEmpty()) {
+                return reconciled;
+            }
+
+            cursor = articleIds.get(articleIds.size() - 1);
+            reconciled += articleCountRepository.reconcileCommentCounts(articleIds.get(0), cursor);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package yourssu.backend.domain.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yourssu.backend.common.exception.GeneralException;
@@ -14,12 +15,20 @@ import yourssu.backend.domain.entity.Comment;
 import yourssu.backend.domain.entity.User;
 import yourssu.backend.domain.repository.ArticleRepository;
 import yourssu.backend.domain.repository.CommentRepository;
+import yourssu.backend.domain.repository.UserRepository;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
     private final CommentRepository commentRepository;
     private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+    private final CommentCountAccumulator commentCountAccumulator;
+
+    @Value("${comment.bulk.max-size}")
+    private int bulkMaxSize;
 
     /*
      * user 정보, articleId, content를 받아 댓글을 작성 후 comment 정보 반환
@@ -28,14 +37,49 @@ public class CommentService {
      */
     @Transactional
     public CommentResponse.CommentDto postComment(CommentRequest.PostCommentDto request, UserPrincipal userprincipal) {
-        User user = userprincipal.getUser();
+        User user = userRepository.getReferenceById(userprincipal.getUserId());
         Article article = findArticleById(request.getArticleId());
         String content = validateContent(request.getContent());
 
         Comment comment = CommentConverter.toComment(content, user, article);
         commentRepository.save(comment);
+        commentCountAccumulator.add(article.getArticleId(), 1);
 
-        return CommentConverter.toCommentDto(comment);
+        return CommentConverter.toCommentDto(comment, userprincipal.getEmail());
+    }
+
+    /*
+     * user 정보, articleId, content 목록을 받아 하나의 게시글에 댓글을 일괄 작성 후 comment 정보 목록 반환
+     * 게시글은 존재 여부만 한 번 확인한 뒤 프록시로 연관관계를 설정하고, 댓글은 JDBC batch로 insert
+     * 한 트랜잭션에서 insert하는 row 수를 제한하기 위해 max-size개를 넘는 요청은 거부
+     * @param request
+     * @return
+     */
+    @Transactional
+    public List<CommentResponse.CommentDto> postCommentBulk(CommentRequest.PostCommentBulkDto request, UserPrincipal userprincipal) {
+        if (request.getContentList() == null || request.getContentList().isEmpty()) {
+            throw new GeneralException(ErrorStatus.INVALID_CONTENT);
+        }
+        if (request.getContentList().size() > bulkMaxSize) {
+            throw new GeneralException(ErrorStatus.TOO_MANY_BULK_ITEMS);
+        }
+
+        List<String> contentList = request.getContentList().stream()
+                .map(this::validateContent)
+                .toList();
+
+        User user = userRepository.getReferenceById(userprincipal.getUserId());
+        Article article = findArticleReferenceById(request.getArticleId());
+
+        List<Comment> commentList = contentList.stream()
+                .map(content -> CommentConverter.toComment(content, user, article))
+                .toList();
+        commentRepository.saveAll(commentList);
+        commentCountAccumulator.add(request.getArticleId(), commentList.size());
+
+        return commentList.stream()
+                .map(comment -> CommentConverter.toCommentDto(comment, userprincipal.getEmail()))
+                .toList();
     }
 
     /*
@@ -46,9 +90,8 @@ public class CommentService {
      */
     @Transactional
     public CommentResponse.CommentDto patchComment(CommentRequest.PatchCommentDto request, Long commentId, UserPrincipal userprincipal) {
-        User user = userprincipal.getUser();
-        Comment comment = findCommentById(commentId);
-        validateIsUserAuthorized(user, comment);
+        Comment comment = findCommentWithUserById(commentId);
+        validateIsUserAuthorized(userprincipal.getUserId(), comment);
 
         String content = validateContent(request.getContent());
         comment.updateContent(content);
@@ -63,31 +106,48 @@ public class CommentService {
      */
     @Transactional
     public void deleteComment(Long commentId, UserPrincipal userprincipal){
-        User user = userprincipal.getUser();
         Comment comment = findCommentById(commentId);
-        validateIsUserAuthorized(user, comment);
+        validateIsUserAuthorized(userprincipal.getUserId(), comment);
 
         commentRepository.delete(comment);
+        commentCountAccumulator.add(comment.getArticle().getArticleId(), -1);
     }
 
     private String validateContent(String content) {
-        if (content.isBlank()) {
+        if (content == null || content.isBlank()) {
             throw new GeneralException(ErrorStatus.INVALID_CONTENT);
         }
         return content;
     }
 
-    private void validateIsUserAuthorized(User user, Comment comment) {
-        if (!comment.getUser().getUserId().equals(user.getUserId())) {
+    private void validateIsUserAuthorized(Long userId, Comment comment) {
+        // user 프록시의 식별자만 사용하므로 User 조회가 발생하지 않음
+        if (!comment.getUser().getUserId().equals(userId)) {
             throw new GeneralException(ErrorStatus.FORBIDDEN_PATCH_COMMENT);
         }
     }
 
+    // articleId가 없는 요청은 repository에서 IllegalArgumentException이 발생하지 않도록 먼저 거부
     private Article findArticleById(Long articleId){
+        if (articleId == null) {
+            throw new GeneralException(ErrorStatus.NOT_FOUND_ARTICLE);
+        }
         return articleRepository.findById(articleId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND_ARTICLE));
     }
 
+    private Article findArticleReferenceById(Long articleId){
+        if (articleId == null || !articleRepository.existsById(articleId)) {
+            throw new GeneralException(ErrorStatus.NOT_FOUND_ARTICLE);
+        }
+        return articleRepository.getReferenceById(articleId);
+    }
+
+    private Comment findCommentWithUserById(Long commentId){
+        return commentRepository.findWithUserByCommentId(commentId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND_COMMENT));
+    }
+
     private Comment findCommentById(Long commentId){
         return commentRepository.findById(commentId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND_COMMENT));
@@ -0,0 +1,44 @@
+package yourssu.backend.domain.service;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import yourssu.backend.common.exception.GeneralException;
+import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.RefreshTokenStore;
+import yourssu.backend.common.security.TokenRevocationList;
+import yourssu.backend.common.status.ErrorStatus;
+import yourssu.backend.domain.dto.request.TokenRequest;
+import yourssu.backend.domain.dto.response.TokenDto;
+import yourssu.backend.domain.entity.RefreshToken;
+
+@Service
+@RequiredArgsConstructor
+public class TokenService {
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
+
+    /*
+     * refresh token을 받아 access token, refresh token 재발급
+     * 사용한 refresh token은 폐기하고, 폐기된 토큰이 다시 사용되면 같은 family의 토큰과 access token을 모두 폐기
+     * @param request
+     * @return
+     */
+    // 재사용 감지 시 family 폐기가 롤백되지 않도록 GeneralException은 커밋
+    @Transactional(noRollbackFor = GeneralException.class)
+    public TokenDto refresh(TokenRequest.RefreshDto request){
+        Claims claims = jwtTokenProvider.getRefreshTokenClaims(request.getRefreshToken());
+        RefreshToken refreshToken = refreshTokenStore.findByTokenId(claims.getId())
+                .orElseThrow(() -> new GeneralException(ErrorStatus.INVALID_REFRESH_TOKEN));
+
+        // 동시에 같은 토큰으로 요청한 경우에도 한 요청만 사용 처리에 성공
+        if (!refreshTokenStore.markUsed(refreshToken.getTokenId())) {
+            tokenRevocationList.revokeAll(refreshTokenStore.revokeFamily(refreshToken.getFamilyId()));
+            throw new GeneralException(ErrorStatus.REUSED_REFRESH_TOKEN);
+        }
+
+        return jwtTokenProvider.rotateToken(jwtTokenProvider.getUserPrincipal(claims), refreshToken.getFamilyId());
+    }
+}
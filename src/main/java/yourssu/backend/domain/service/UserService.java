@@ -1,14 +1,16 @@
 package yourssu.backend.domain.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import yourssu.backend.common.exception.GeneralException;
+import yourssu.backend.common.security.CustomUserDetailService;
 import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.PasswordEncodingUpgrader;
+import yourssu.backend.common.security.RefreshTokenStore;
+import yourssu.backend.common.security.TokenRevocationList;
 import yourssu.backend.common.security.UserPrincipal;
 import yourssu.backend.domain.dto.response.TokenDto;
 import yourssu.backend.common.status.ErrorStatus;
@@ -17,6 +19,9 @@ import yourssu.backend.domain.dto.request.UserRequest;
 import yourssu.backend.domain.dto.response.UserResponse;
 import yourssu.backend.domain.entity.Comment;
 import yourssu.backend.domain.entity.User;
+import yourssu.backend.domain.repository.ArticleCountRepository;
+import yourssu.backend.domain.repository.ArticleRepository;
+import yourssu.backend.domain.repository.CommentRepository;
 import yourssu.backend.domain.repository.UserRepository;
 
 import java.util.Objects;
@@ -26,58 +31,103 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final ArticleRepository articleRepository;
+    private final ArticleCountRepository articleCountRepository;
+    private final CommentRepository commentRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final AuthenticationManager authenticationManager;
+    private final CustomUserDetailService customUserDetailService;
+    private final PasswordEncodingUpgrader passwordEncodingUpgrader;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
+    private final TransactionTemplate transactionTemplate;
 
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9+-_.]+@[a-zA-Z0-9-]+\\.[a-zA-Z0-9-.]+$");
 
 
     /*
      * 이름, 메일, 비밀번호를 받아 회원가입 후 이름과 메일을 반환
+     * 해싱을 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 해싱하고, 저장은 repository의 트랜잭션에서 실행
      * @param request
      * @return
      */
-    @Transactional
     public UserResponse.UserDto signUp(UserRequest.SignUpDto request){
         String username = request.getUsername();
         String email = request.getEmail();
-        String password = passwordEncoder.encode(request.getPassword());
 
         validateEmailPattern(email);
-        checkDuplicateEmail(email);
-        checkDuplicateUsername(username);
+        String password = passwordEncoder.encode(request.getPassword());
 
+        // 중복 검사는 email, username의 unique 제약조건에 맡기고 insert 한 번으로 처리
         User user = UserConverter.toUser(email, username, password);
-        userRepository.save(user);
+        saveUser(user);
 
         return UserConverter.toUserDto(user);
     }
 
     /*
      * 이메일, 비밀번호를 받아 로그인 후 토큰 반환
+     * AuthenticationManager를 거치지 않고 email(natural id)로 한 번 조회해 검증 후 토큰 발급
+     * second-level cache에 있다면 DB를 조회하지 않음
+     * 조회, refresh token 저장은 각각의 트랜잭션에서 실행하고 비밀번호 검증은 트랜잭션 밖에서 실행
      * @param request
      * @return
      */
-    @Transactional
     public TokenDto signIn(UserRequest.SignInDto request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
-        return jwtTokenProvider.createToken(authentication);
+        UserPrincipal userPrincipal = userRepository.findUserByEmail(request.getEmail())
+                .map(UserPrincipal::create)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND_USER));
+
+        if (!passwordEncoder.matches(request.getPassword(), userPrincipal.getPassword())) {
+            throw new GeneralException(ErrorStatus.NOT_MATCH_PASSWORD);
+        }
+        upgradePasswordEncoding(userPrincipal, request.getPassword());
+
+        return jwtTokenProvider.createToken(userPrincipal);
     }
 
     /*
      * 메일, 전화번호를 받아 유저 삭제
+     * 게시글, 댓글을 엔티티 단위로 cascade 삭제하지 않고 댓글 -> 게시글 순서로 일괄 삭제한 뒤 유저 삭제
+     * 비밀번호 검증을 마친 뒤에 삭제 트랜잭션을 시작해 해싱을 기다리는 동안 DB 커넥션을 점유하지 않음
      * @param request
      */
-    @Transactional
     public void withdrawal(UserRequest.WithDrawalDto request, UserPrincipal userprincipal){
-        User user = userprincipal.getUser();
         User targetUser = validateUserCredentials(request.getEmail(), request.getPassword());
-        validateIsUserAuthorized(user, targetUser);
+        validateIsUserAuthorized(userprincipal.getUserId(), targetUser);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            deleteUserWithContents(targetUser.getUserId());
+            // 탈퇴 이후 기존에 발급된 access token으로 인증할 수 없도록 폐기
+            tokenRevocationList.revokeAll(refreshTokenStore.revokeAll(targetUser.getUserId()));
+        });
+        customUserDetailService.evict(targetUser.getEmail(), targetUser.getUsername());
+    }
 
-        userRepository.delete(targetUser);
+    private void upgradePasswordEncoding(UserPrincipal userPrincipal, String rawPassword) {
+        // 저장된 해시가 현재 알고리즘, cost 설정과 다르면 응답 이후 비동기로 재해싱 (UPDATE만 추가로 실행)
+        if (passwordEncoder.upgradeEncoding(userPrincipal.getPassword())) {
+            passwordEncodingUpgrader.upgrade(userPrincipal, rawPassword);
+        }
+    }
+
+    /*
+     * Comment, ArticleCount는 캐싱하지 않으므로 JPQL로 일괄 삭제하고,
+     * Article은 캐시 region 전체가 비워지지 않도록 JDBC로 삭제한 뒤 삭제한 게시글만 캐시에서 제거
+     * User는 엔티티로 삭제해 read-write 캐시가 User와 email -> id 변환 결과를 함께 제거하도록 함
+     * (게시글, 댓글은 이미 삭제되어 cascade 시 빈 목록만 조회)
+     * @param userId
+     */
+    private void deleteUserWithContents(Long userId) {
+        articleCountRepository.decreaseCommentCountByCommentUserId(userId);
+        commentRepository.deleteAllByUserId(userId);
+        commentRepository.deleteAllByArticleUserId(userId);
+        articleCountRepository.deleteAllByArticleUserId(userId);
+        articleRepository.deleteAllByUserId(userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.NOT_FOUND_USER));
+        userRepository.delete(user);
     }
 
     private void validateEmailPattern(String email) {
@@ -86,16 +136,24 @@ public class UserService {
         }
     }
 
-    private void checkDuplicateEmail(String email) {
-        if (userRepository.existsUserByEmail(email)){
-            throw new GeneralException(ErrorStatus.DUPLICATE_EMAIL);
+    private void saveUser(User user) {
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new GeneralException(resolveDuplicateStatus(e));
         }
     }
 
-    private void checkDuplicateUsername(String username) {
-        if (userRepository.existsUserByUsername(username)){
-            throw new GeneralException(ErrorStatus.DUPLICATE_USERNAME);
+    private ErrorStatus resolveDuplicateStatus(DataIntegrityViolationException e) {
+        // 위반된 unique 제약조건 이름으로 중복된 필드 판별
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase();
+        if (message.contains(User.UK_EMAIL)) {
+            return ErrorStatus.DUPLICATE_EMAIL;
+        }
+        if (message.contains(User.UK_USERNAME)) {
+            return ErrorStatus.DUPLICATE_USERNAME;
         }
+        throw e;
     }
 
     public User validateUserCredentials(String email, String password) {
@@ -107,8 +165,8 @@ public class UserService {
         return user;
     }
 
-    public void validateIsUserAuthorized(User user, User targetUser) {
-        if (!Objects.equals(user.getUserId(), targetUser.getUserId()))
+    public void validateIsUserAuthorized(Long userId, User targetUser) {
+        if (!Objects.equals(userId, targetUser.getUserId()))
             throw new GeneralException(ErrorStatus.FORBIDDEN_WITHDRAWAL);
     }
 
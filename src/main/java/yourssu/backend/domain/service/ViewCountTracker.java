@@ -0,0 +1,96 @@
+package yourssu.backend.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import yourssu.backend.common.util.CounterBuffer;
+import yourssu.backend.domain.repository.ArticleCountRepository;
+
+import java.time.Duration;
+import java.util.Map;
+
+/*
+ * 게시글 조회수 집계
+ * 조회마다 row를 쓰지 않도록 게시글별 조회수를 메모리에 모아 flush-interval-ms마다 batch로 반영하고,
+ * 같은 유저의 반복 조회는 dedup-window 동안 한 번만 집계
+ */
+@Slf4j
+@Component
+public class ViewCountTracker {
+    private final ArticleCountRepository articleCountRepository;
+    private final CounterBuffer buffer = new CounterBuffer();
+    // (게시글, 유저) 별 마지막 집계 여부, 크기를 넘으면 오래된 항목부터 제거되어 다시 집계될 수 있음
+    private final Cache<ViewKey, Boolean> recentViews;
+    private final Counter duplicateCounter;
+    private final Timer flushTimer;
+
+    public ViewCountTracker(ArticleCountRepository articleCountRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${article.view-count.dedup-window}") Duration dedupWindow,
+                            @Value("${article.view-count.dedup-max-size}") long dedupMaxSize) {
+        this.articleCountRepository = articleCountRepository;
+        this.recentViews = Caffeine.newBuilder()
+                .expireAfterWrite(dedupWindow)
+                .maximumSize(dedupMaxSize)
+                .build();
+        this.duplicateCounter = meterRegistry.counter("article.view-count.duplicate");
+        this.flushTimer = meterRegistry.timer("article.view-count.flush");
+        meterRegistry.gauge("article.view-count.pending", buffer, CounterBuffer::size);
+    }
+
+    /*
+     * 게시글 조회 기록, dedup-window 안에 같은 유저가 다시 조회한 경우 집계하지 않음
+     * 인증 정보가 없는 조회는 중복 여부를 알 수 없으므로 매번 집계
+     * @param articleId
+     * @param userId
+     * @return 집계 여부
+     */
+    public boolean recordView(Long articleId, Long userId) {
+        if (userId != null && recentViews.asMap().putIfAbsent(new ViewKey(articleId, userId), Boolean.TRUE) != null) {
+            duplicateCounter.increment();
+            return false;
+        }
+
+        buffer.add(articleId, 1);
+        return true;
+    }
+
+    /*
+     * 누적된 조회수를 DB에 반영
+     * 실패한 조회수는 다시 누적해 다음 flush에서 재시도
+     */
+    @Scheduled(fixedDelayString = "${article.view-count.flush-interval-ms}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = buffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> articleCountRepository.addViewCounts(deltas));
+        } catch (RuntimeException e) {
+            log.warn("failed to flush view counts of {} articles", deltas.size(), e);
+            buffer.addAll(deltas);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPending(Long articleId) {
+        return buffer.get(articleId);
+    }
+
+    private record ViewKey(Long articleId, Long userId) {
+    }
+}
@@ -20,28 +20,35 @@ import org.springframework.test.web.servlet.MockMvc;
 import yourssu.backend.common.exception.GeneralException;
 import yourssu.backend.common.security.CustomUserDetailService;
 import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.TokenRevocationList;
 import yourssu.backend.common.security.UserPrincipal;
 import yourssu.backend.common.status.ErrorStatus;
 import yourssu.backend.domain.controller.ArticleController;
 import yourssu.backend.domain.converter.UserConverter;
 import yourssu.backend.domain.dto.request.ArticleRequest;
 import yourssu.backend.domain.dto.response.ArticleResponse;
+import yourssu.backend.domain.dto.response.CommentResponse;
 import yourssu.backend.domain.dto.response.TokenDto;
 import yourssu.backend.domain.entity.User;
 import yourssu.backend.domain.service.ArticleService;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.patch;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -68,6 +75,9 @@ public class ArticleControllerTest {
     @MockBean
     private CustomUserDetailService customUserDetailService;
 
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
 
     private String setAuthentication(String email, String username, String password) {
         User user = UserConverter.toUser(email, username, password);
@@ -84,6 +94,149 @@ public class ArticleControllerTest {
         return tokenDto.getAccessToken();
     }
 
+    @Test
+    @DisplayName("cursor, size를 RequestParam으로 받아 cursor 이후의 Article 목록을 최신순으로 반환한다.")
+    public void getArticleList() throws Exception {
+        // set authentication
+        String authenticationToken = setAuthentication("test@mail.com", "user", "1234");
+
+        // given
+        List<ArticleResponse.ArticleSummaryDto> articleList = List.of(
+                new ArticleResponse.ArticleSummaryDto(3L, "test@mail.com", "Test3", "test3", 5L, 42L),
+                new ArticleResponse.ArticleSummaryDto(2L, "test@mail.com", "Test2", "test2", 0L, 0L)
+        );
+        given(articleService.getArticleList(eq("NA"), eq(2)))
+                .willReturn(new ArticleResponse.ArticleListDto(articleList, "Mg", true));
+
+        // when&then
+        mockMvc.perform(get("/api/v1/article")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer "+authenticationToken)
+                        .param("cursor", "NA")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.result").value("SUCCESS"))
+                .andExpect(jsonPath("$.message").value("게시물 조회에 성공했습니다."))
+                .andExpect(jsonPath("$.data.articleList[0].articleId").value(3L))
+                .andExpect(jsonPath("$.data.articleList[1].articleId").value(2L))
+                .andExpect(jsonPath("$.data.articleList[0].commentCount").value(5L))
+                .andExpect(jsonPath("$.data.articleList[0].viewCount").value(42L))
+                .andExpect(jsonPath("$.data.nextCursor").value("Mg"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andDo(document("get-article-list",
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("Bearer token")
+                        ),
+                        queryParameters(
+                                parameterWithName("cursor").description("이전 페이지 응답의 nextCursor, 첫 페이지는 생략").optional(),
+                                parameterWithName("size").description("조회할 Article 개수 (기본값 20, 최대 100)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("code").description("상태 코드"),
+                                fieldWithPath("result").description("결과 성공 여부"),
+                                fieldWithPath("message").description("결과 메시지"),
+                                fieldWithPath("data.articleList[].articleId").description("Article 객체의 PK"),
+                                fieldWithPath("data.articleList[].email").description("해당 Article을 작성한 사용자의 이메일 주소"),
+                                fieldWithPath("data.articleList[].title").description("Article의 제목"),
+                                fieldWithPath("data.articleList[].content").description("Article의 본문"),
+                                fieldWithPath("data.articleList[].commentCount").description("Article의 댓글 수"),
+                                fieldWithPath("data.articleList[].viewCount").description("Article의 조회수 (주기적으로 반영되어 최근 조회가 누락될 수 있음)"),
+                                fieldWithPath("data.nextCursor").description("다음 페이지 조회에 사용할 cursor, 마지막 페이지는 null").optional(),
+                                fieldWithPath("data.hasNext").description("다음 페이지 존재 여부")
+                        )
+                ));
+    }
+
+    @Test
+    public void getArticleListWithInvalidCursor() throws Exception {
+        // set authentication
+        String authenticationToken = setAuthentication("test@mail.com", "user", "1234");
+
+        // given
+        // 디코딩할 수 없는 cursor를 제공할 경우, 400 error
+        given(articleService.getArticleList(eq("invalid"), anyInt()))
+                .willThrow(new GeneralException(ErrorStatus.INVALID_CURSOR));
+
+        // when&then
+        mockMvc.perform(get("/api/v1/article")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer "+authenticationToken)
+                        .param("cursor", "invalid"))
+                .andExpect(status().is4xxClientError())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.result").value("FAILURE"))
+                .andExpect(jsonPath("$.message").value("유효하지 않은 cursor 형식입니다."));
+    }
+
+    @Test
+    @DisplayName("조회할 Article의 PK를 PathVariable로 받아 Article 정보와 처음 commentSize개의 Comment 목록을 반환한다.")
+    public void getArticle() throws Exception {
+        // set authentication
+        String authenticationToken = setAuthentication("test@mail.com", "user", "1234");
+
+        // given
+        List<CommentResponse.CommentDto> commentList = List.of(
+                new CommentResponse.CommentDto(1L, "test2@mail.com", "comment1"),
+                new CommentResponse.CommentDto(2L, "test3@mail.com", "comment2")
+        );
+        given(articleService.getArticle(eq(1L), eq(2), any()))
+                .willReturn(new ArticleResponse.ArticleDetailDto(1L, "test@mail.com", "Test1", "test1", commentList));
+
+        // when&then
+        mockMvc.perform(get("/api/v1/article/{articleId}", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer "+authenticationToken)
+                        .param("commentSize", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.result").value("SUCCESS"))
+                .andExpect(jsonPath("$.message").value("게시물 조회에 성공했습니다."))
+                .andExpect(jsonPath("$.data.articleId").value(1L))
+                .andExpect(jsonPath("$.data.email").value("test@mail.com"))
+                .andExpect(jsonPath("$.data.commentList[0].commentId").value(1L))
+                .andExpect(jsonPath("$.data.commentList[1].email").value("test3@mail.com"))
+                .andDo(document("get-article",
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("Bearer token")
+                        ),
+                        pathParameters(
+                                parameterWithName("articleId").description("조회할 Article 객체의 PK")
+                        ),
+                        queryParameters(
+                                parameterWithName("commentSize").description("함께 조회할 Comment 개수 (기본값 20, 최대 100)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("code").description("상태 코드"),
+                                fieldWithPath("result").description("결과 성공 여부"),
+                                fieldWithPath("message").description("결과 메시지"),
+                                fieldWithPath("data.articleId").description("Article 객체의 PK"),
+                                fieldWithPath("data.email").description("해당 Article을 작성한 사용자의 이메일 주소"),
+                                fieldWithPath("data.title").description("Article의 제목"),
+                                fieldWithPath("data.content").description("Article의 본문"),
+                                fieldWithPath("data.commentList[].commentId").description("Comment 객체의 PK"),
+                                fieldWithPath("data.commentList[].email").description("해당 Comment를 작성한 사용자의 이메일 주소"),
+                                fieldWithPath("data.commentList[].content").description("Comment의 본문")
+                        )
+                ));
+    }
+
+    @Test
+    public void getArticleWithNonExistArticleId() throws Exception {
+        // set authentication
+        String authenticationToken = setAuthentication("test@mail.com", "user", "1234");
+
+        // given
+        // 존재하지 않는 article에 대한 id를 pathvariable로 제공할 경우, 404 error
+        given(articleService.getArticle(eq(30L), anyInt(), any()))
+                .willThrow(new GeneralException(ErrorStatus.NOT_FOUND_ARTICLE));
+
+        // when&then
+        mockMvc.perform(get("/api/v1/article/{articleId}", 30L)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer "+authenticationToken))
+                .andExpect(status().is4xxClientError())
+                .andExpect(jsonPath("$.code").value("404"))
+                .andExpect(jsonPath("$.result").value("FAILURE"))
+                .andExpect(jsonPath("$.message").value("존재하지 않는 게시글입니다."));
+    }
+
     @Test
     @DisplayName("title, content를 RequestBody로 받아 Article 객체를 생성한 후 작성자의 이메일, 생성된 Article의 PK, title, content를 반환한다.")
     public void createArticle() throws Exception {
@@ -131,6 +284,57 @@ public class ArticleControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("JSON 배열 또는 NDJSON 형식의 Article 목록을 RequestBody로 받아 일괄 생성한 후 Article별 처리 결과를 반환한다.")
+    public void createArticleBulk() throws Exception {
+        // set authentication
+        String authenticationToken = setAuthentication("test@mail.com", "user", "1234");
+
+        // request
+        String request = """
+                {"title": "Test1", "content": "test1"}
+                {"title": " ", "content": "test2"}
+                """;
+
+        // given
+        List<ArticleResponse.BulkItemDto> itemList = List.of(
+                new ArticleResponse.BulkItemDto(0, true, 1L, null),
+                new ArticleResponse.BulkItemDto(1, false, null, "유효하지 않은 title 형식입니다.")
+        );
+        given(articleService.postArticleBulk(any(), any()))
+                .willReturn(new ArticleResponse.BulkResultDto(1, 1, itemList));
+
+        // when&then
+        mockMvc.perform(post("/api/v1/article/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer "+authenticationToken)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.result").value("SUCCESS"))
+                .andExpect(jsonPath("$.message").value("게시물 일괄 작성 요청이 처리되었습니다."))
+                .andExpect(jsonPath("$.data.successCount").value(1))
+                .andExpect(jsonPath("$.data.failureCount").value(1))
+                .andExpect(jsonPath("$.data.itemList[0].articleId").value(1L))
+                .andExpect(jsonPath("$.data.itemList[1].success").value(false))
+                .andDo(document("post-article-bulk",
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("Bearer token")
+                        ),
+                        responseFields(
+                                fieldWithPath("code").description("상태 코드"),
+                                fieldWithPath("result").description("결과 성공 여부"),
+                                fieldWithPath("message").description("결과 메시지"),
+                                fieldWithPath("data.successCount").description("생성에 성공한 Article 개수"),
+                                fieldWithPath("data.failureCount").description("생성에 실패한 Article 개수"),
+                                fieldWithPath("data.itemList[].index").description("요청 body 내 Article의 순서 (0부터 시작)"),
+                                fieldWithPath("data.itemList[].success").description("생성 성공 여부"),
+                                fieldWithPath("data.itemList[].articleId").description("생성된 Article 객체의 PK, 실패 시 null").optional(),
+                                fieldWithPath("data.itemList[].message").description("실패 사유, 성공 시 null").optional()
+                        )
+                ));
+    }
+
     @Test
     public void createArticleWithInvalidTitle() throws Exception {
         // set authentication
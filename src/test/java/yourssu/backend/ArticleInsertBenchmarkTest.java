@@ -0,0 +1,89 @@
+package yourssu.backend;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import yourssu.backend.domain.converter.ArticleConverter;
+import yourssu.backend.domain.converter.UserConverter;
+import yourssu.backend.domain.entity.Article;
+import yourssu.backend.domain.entity.User;
+import yourssu.backend.domain.repository.ArticleRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+public class ArticleInsertBenchmarkTest {
+    private static final int ARTICLE_COUNT = 10_000;
+
+    abstract static class InsertBenchmark {
+        @Autowired
+        private ArticleRepository articleRepository;
+
+        @Autowired
+        private TestEntityManager testEntityManager;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        protected long insertArticles(String label) {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            User user = testEntityManager.persist(UserConverter.toUser("test@mail.com", "user", "1234"));
+            testEntityManager.flush();
+
+            List<Article> articles = new ArrayList<>(ARTICLE_COUNT);
+            for (int i = 0; i < ARTICLE_COUNT; i++) {
+                articles.add(ArticleConverter.toArticle("Test" + i, "test" + i, user));
+            }
+            statistics.clear();
+
+            long start = System.nanoTime();
+            articleRepository.saveAll(articles);
+            testEntityManager.flush();
+            long elapsedNs = System.nanoTime() - start;
+
+            System.out.printf("%s: %d articles, %d statements, %.0f inserts/sec%n",
+                    label, ARTICLE_COUNT, statistics.getPrepareStatementCount(), ARTICLE_COUNT / (elapsedNs / 1e9));
+            return statistics.getPrepareStatementCount();
+        }
+    }
+
+    // 변경 전과 같이 insert마다 id를 받아오고 batch 없이 실행하는 설정
+    @Nested
+    @DataJpaTest(properties = {
+            "spring.jpa.properties.hibernate.jdbc.batch_size=1",
+            "spring.jpa.properties.yourssu.id.allocation_size=1"
+    })
+    @ActiveProfiles("test")
+    @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+    class RowByRow extends InsertBenchmark {
+        @Test
+        @DisplayName("batch를 사용하지 않으면 Article 수만큼 insert가 실행된다.")
+        public void insertRowByRow() {
+            assertThat(insertArticles("row by row")).isGreaterThanOrEqualTo(ARTICLE_COUNT);
+        }
+    }
+
+    @Nested
+    @DataJpaTest
+    @ActiveProfiles("test")
+    @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+    class Batched extends InsertBenchmark {
+        @Test
+        @DisplayName("pooled sequence와 JDBC batch를 사용하면 batch 단위로 insert가 실행된다.")
+        public void insertInBatches() {
+            assertThat(insertArticles("batched")).isLessThan(ARTICLE_COUNT / 10);
+        }
+    }
+}
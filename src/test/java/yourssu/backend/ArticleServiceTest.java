@@ -0,0 +1,236 @@
+package yourssu.backend;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import yourssu.backend.common.security.UserPrincipal;
+import yourssu.backend.domain.converter.ArticleConverter;
+import yourssu.backend.domain.converter.CommentConverter;
+import yourssu.backend.domain.converter.UserConverter;
+import yourssu.backend.domain.dto.request.ArticleRequest;
+import yourssu.backend.domain.dto.response.ArticleResponse;
+import yourssu.backend.domain.entity.Article;
+import yourssu.backend.domain.entity.ArticleCount;
+import yourssu.backend.domain.entity.User;
+import yourssu.backend.domain.repository.ArticleRepository;
+import yourssu.backend.domain.service.ArticleService;
+import yourssu.backend.domain.service.ViewCountTracker;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 테스트 중 scheduler가 flush하지 않도록 주기를 길게 설정
+@DataJpaTest(properties = {
+        "article.bulk.chunk-size=2",
+        "article.view-count.flush-interval-ms=3600000"
+})
+@AutoConfigureJson
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ArticleService.class, ViewCountTracker.class, SimpleMeterRegistry.class})
+public class ArticleServiceTest {
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ViewCountTracker viewCountTracker;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private User saveUser(String email, String username) {
+        return testEntityManager.persist(UserConverter.toUser(email, username, "1234"));
+    }
+
+    @Test
+    @DisplayName("Article 단건 조회는 Comment 개수, 작성자 수와 관계없이 SQL 2회로 처리한다.")
+    public void getArticleWithConstantQueryCount() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        Article article = testEntityManager.persist(ArticleConverter.toArticle("Test1", "test1", writer));
+
+        // 댓글마다 작성자를 다르게 해 Comment.user 지연 로딩 시 N+1이 발생하는 상황을 구성
+        for (int i = 0; i < 10; i++) {
+            User commenter = saveUser("commenter" + i + "@mail.com", "commenter" + i);
+            testEntityManager.persist(CommentConverter.toComment("comment" + i, commenter, article));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        // when
+        ArticleResponse.ArticleDetailDto result = articleService.getArticle(article.getArticleId(), 5, UserPrincipal.create(writer));
+
+        // then
+        assertThat(result.getEmail()).isEqualTo("test@mail.com");
+        assertThat(result.getCommentList()).hasSize(5);
+        assertThat(result.getCommentList().get(0).getEmail()).isEqualTo("commenter0@mail.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글 작성 시 작성자 User를 조회하지 않고 principal의 email로 응답한다.")
+    public void postArticleWithoutLoadingUser() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        // when
+        ArticleResponse.ArticleDto result = articleService.postArticle(
+                new ArticleRequest.ArticleDto("Test1", "test1"), UserPrincipal.create(writer));
+        testEntityManager.flush();
+
+        // then
+        assertThat(result.getEmail()).isEqualTo("test@mail.com");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 반복 조회는 한 번만 집계하고, 집계한 조회수를 flush 시 batch로 반영한다.")
+    public void countViewsOncePerUserAndFlush() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        User reader = saveUser("test2@mail.com", "user2");
+        Article article = testEntityManager.persist(ArticleConverter.toArticle("Test1", "test1", writer));
+        testEntityManager.persist(ArticleConverter.toArticleCount(article));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            articleService.getArticle(article.getArticleId(), 5, UserPrincipal.create(writer));
+            articleService.getArticle(article.getArticleId(), 5, UserPrincipal.create(reader));
+        }
+        long pending = viewCountTracker.getPending(article.getArticleId());
+        viewCountTracker.flush();
+        testEntityManager.clear();
+
+        // then
+        assertThat(pending).isEqualTo(2);
+        assertThat(viewCountTracker.getPending(article.getArticleId())).isZero();
+        assertThat(testEntityManager.find(ArticleCount.class, article.getArticleId()).getViewCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Article 삭제 시 Comment를 로딩하지 않고 일괄 삭제한 뒤 Article을 엔티티로 삭제한다.")
+    public void deleteArticleWithoutLoadingComments() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        User commenter = saveUser("test2@mail.com", "user2");
+        Article article = testEntityManager.persist(ArticleConverter.toArticle("Test1", "test1", writer));
+        testEntityManager.persist(ArticleConverter.toArticleCount(article));
+
+        for (int i = 0; i < 100; i++) {
+            testEntityManager.persist(CommentConverter.toComment("comment" + i, commenter, article));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        // when
+        articleService.deleteArticle(article.getArticleId(), UserPrincipal.create(writer));
+        testEntityManager.flush();
+
+        // then
+        // 게시글 조회 1회 + 댓글 삭제 1회 + 카운터 삭제 1회 + cascade 대상 댓글 목록 조회 1회 (이미 삭제되어 비어있음) + 게시글 삭제 1회
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(testEntityManager.find(Article.class, article.getArticleId())).isNull();
+    }
+
+    @Test
+    @DisplayName("NDJSON 형식의 게시글 목록을 chunk 단위로 저장하고, 유효하지 않은 게시글은 실패 결과로 반환한다.")
+    public void postArticleBulkWithNdjson() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        testEntityManager.flush();
+        String body = """
+                {"title": "Test1", "content": "test1"}
+                {"title": " ", "content": "test2"}
+                {"title": "Test3"}
+                "not an article"
+                {"title": "Test5", "content": "test5"}
+                """;
+
+        // when
+        ArticleResponse.BulkResultDto result = articleService.postArticleBulk(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), UserPrincipal.create(writer));
+
+        // then
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getFailureCount()).isEqualTo(3);
+        assertThat(result.getItemList()).extracting(ArticleResponse.BulkItemDto::getSuccess)
+                .containsExactly(true, false, false, false, true);
+        assertThat(result.getItemList().get(1).getMessage()).isEqualTo("유효하지 않은 title 형식입니다.");
+        assertThat(result.getItemList().get(2).getMessage()).isEqualTo("유효하지 않은 content 형식입니다.");
+        assertThat(articleRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("컬럼 길이를 넘는 게시글은 저장을 중단하지 않고 해당 게시글만 실패 결과로 반환한다.")
+    public void postArticleBulkWithTooLongTitle() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        testEntityManager.flush();
+        String body = "[{\"title\": \"Test1\", \"content\": \"test1\"}, "
+                + "{\"title\": \"" + "a".repeat(256) + "\", \"content\": \"test2\"}, "
+                + "{\"title\": \"Test3\", \"content\": \"test3\"}]";
+
+        // when
+        ArticleResponse.BulkResultDto result = articleService.postArticleBulk(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), UserPrincipal.create(writer));
+
+        // then
+        assertThat(result.getItemList()).extracting(ArticleResponse.BulkItemDto::getSuccess)
+                .containsExactly(true, false, true);
+        assertThat(result.getItemList().get(1).getMessage()).isEqualTo("유효하지 않은 title 형식입니다.");
+        assertThat(articleRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("JSON 배열 형식의 게시글 목록을 일괄 저장한다.")
+    public void postArticleBulkWithJsonArray() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        testEntityManager.flush();
+        String body = "[{\"title\": \"Test1\", \"content\": \"test1\"}, {\"title\": \"Test2\", \"content\": \"test2\"}]";
+
+        // when
+        ArticleResponse.BulkResultDto result = articleService.postArticleBulk(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), UserPrincipal.create(writer));
+
+        // then
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getItemList()).allSatisfy(item -> assertThat(item.getArticleId()).isNotNull());
+        assertThat(articleRepository.count()).isEqualTo(2);
+    }
+}
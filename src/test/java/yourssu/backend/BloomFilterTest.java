@@ -0,0 +1,38 @@
+package yourssu.backend;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yourssu.backend.common.util.BloomFilter;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함되고, 추가하지 않은 값의 오탐률은 설정한 fpp 수준으로 유지된다.")
+    public void mightContainWithFalsePositiveRate() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        String[] tokenIds = new String[10_000];
+        for (int i = 0; i < tokenIds.length; i++) {
+            tokenIds[i] = UUID.randomUUID().toString();
+            filter.put(tokenIds[i]);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        for (String tokenId : tokenIds) {
+            assertThat(filter.mightContain(tokenId)).isTrue();
+        }
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,94 @@
+package yourssu.backend;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import yourssu.backend.common.exception.GeneralException;
+import yourssu.backend.common.security.BoundedPasswordEncoder;
+import yourssu.backend.common.status.ErrorStatus;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedPasswordEncoderTest {
+    private SimpleMeterRegistry meterRegistry;
+    private CountDownLatch started;
+    private CountDownLatch release;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+
+        // release 전까지 해싱을 끝내지 않는 delegate
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return NoOpPasswordEncoder.getInstance().encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return NoOpPasswordEncoder.getInstance().matches(rawPassword, encodedPassword);
+            }
+        };
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        passwordEncoder.close();
+    }
+
+    @Test
+    @DisplayName("스레드 풀과 대기열이 모두 차면 해싱을 거부하고 PASSWORD_HASHING_UNAVAILABLE을 던진다.")
+    public void rejectWhenSaturated() throws Exception {
+        // given: 스레드 1개는 실행 중, 대기열 1칸은 대기 중
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("queued"));
+        while (meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        // when&then
+        assertThatThrownBy(() -> passwordEncoder.encode("rejected"))
+                .isInstanceOf(GeneralException.class)
+                .extracting("baseErrorCode")
+                .isEqualTo(ErrorStatus.PASSWORD_HASHING_UNAVAILABLE);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        // 포화가 풀리면 대기 중이던 요청은 정상 처리
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    @Test
+    @DisplayName("포화되지 않았으면 delegate로 해싱, 검증한다.")
+    public void delegateWhenAvailable() {
+        release.countDown();
+
+        String encoded = passwordEncoder.encode("1234");
+
+        assertThat(passwordEncoder.matches("1234", encoded)).isTrue();
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isZero();
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import yourssu.backend.common.exception.GeneralException;
 import yourssu.backend.common.security.CustomUserDetailService;
 import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.TokenRevocationList;
 import yourssu.backend.common.security.UserPrincipal;
 import yourssu.backend.common.status.ErrorStatus;
 import yourssu.backend.domain.controller.CommentController;
@@ -30,6 +31,8 @@ import yourssu.backend.domain.dto.response.TokenDto;
 import yourssu.backend.domain.entity.User;
 import yourssu.backend.domain.service.CommentService;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -71,6 +74,9 @@ public class CommentControllerTest {
     @MockBean
     private CustomUserDetailService customUserDetailService;
 
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
     private String setAuthentication(String email, String username, String password) {
         User user = UserConverter.toUser(email, username, password);
         UserDetails userDetails = new UserPrincipal(user);
@@ -131,6 +137,52 @@ public class CommentControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("articleId, content 목록을 RequestBody로 받아 하나의 Article에 Comment 객체들을 일괄 생성한 후 생성된 Comment 목록을 반환한다.")
+    public void createCommentBulk() throws Exception {
+        // set authentication
+        String authenticationToken = setAuthentication("test@mail.com", "user", "1234");
+
+        // request
+        CommentRequest.PostCommentBulkDto request = new CommentRequest.PostCommentBulkDto(1L, List.of("comment1", "comment2"));
+
+        // given
+        given(commentService.postCommentBulk(any(), any()))
+                .willReturn(List.of(
+                        new CommentResponse.CommentDto(1L, "test@mail.com", "comment1"),
+                        new CommentResponse.CommentDto(2L, "test@mail.com", "comment2")
+                ));
+
+        // when&then
+        mockMvc.perform(post("/api/v1/comment/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer "+authenticationToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.result").value("SUCCESS"))
+                .andExpect(jsonPath("$.message").value("댓글 일괄 작성에 성공했습니다."))
+                .andExpect(jsonPath("$.data[0].commentId").value(1L))
+                .andExpect(jsonPath("$.data[1].content").value("comment2"))
+                .andDo(document("post-comment-bulk",
+                        requestHeaders(
+                                headerWithName(HttpHeaders.AUTHORIZATION).description("Bearer token")
+                        ),
+                        requestFields(
+                                fieldWithPath("articleId").description("Comment를 작성할 Article의 PK"),
+                                fieldWithPath("contentList").description("작성할 Comment 본문 목록")
+                        ),
+                        responseFields(
+                                fieldWithPath("code").description("상태 코드"),
+                                fieldWithPath("result").description("결과 성공 여부"),
+                                fieldWithPath("message").description("결과 메시지"),
+                                fieldWithPath("data[].commentId").description("생성된 Comment 객체의 PK"),
+                                fieldWithPath("data[].email").description("Comment를 작성한 사용자의 이메일 주소"),
+                                fieldWithPath("data[].content").description("생성된 Comment의 본문")
+                        )
+                ));
+    }
+
     @Test
     public void createCommentWithNonExistArticleId() throws Exception {
         // set authentication
@@ -0,0 +1,249 @@
+package yourssu.backend;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import yourssu.backend.common.exception.GeneralException;
+import yourssu.backend.common.security.UserPrincipal;
+import yourssu.backend.common.status.ErrorStatus;
+import yourssu.backend.domain.converter.ArticleConverter;
+import yourssu.backend.domain.converter.CommentConverter;
+import yourssu.backend.domain.converter.UserConverter;
+import yourssu.backend.domain.dto.request.CommentRequest;
+import yourssu.backend.domain.dto.response.CommentResponse;
+import yourssu.backend.domain.entity.Article;
+import yourssu.backend.domain.entity.ArticleCount;
+import yourssu.backend.domain.entity.User;
+import yourssu.backend.domain.repository.ArticleCountRepository;
+import yourssu.backend.domain.repository.ArticleRepository;
+import yourssu.backend.domain.repository.CommentRepository;
+import yourssu.backend.domain.repository.UserRepository;
+import yourssu.backend.domain.service.CommentCountAccumulator;
+import yourssu.backend.domain.service.CommentCountReconciler;
+import yourssu.backend.domain.service.CommentService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 테스트 중 scheduler가 flush하지 않도록 주기를 길게 설정
+@DataJpaTest(properties = {
+        "article.comment-count.reconcile-batch-size=2",
+        "article.comment-count.flush-interval-ms=3600000",
+        "comment.bulk.max-size=3"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CommentService.class, CommentCountAccumulator.class, CommentCountReconciler.class, SimpleMeterRegistry.class})
+public class CommentServiceTest {
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentCountAccumulator commentCountAccumulator;
+
+    @Autowired
+    private CommentCountReconciler commentCountReconciler;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleCountRepository articleCountRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User saveUser(String email, String username) {
+        return testEntityManager.persist(UserConverter.toUser(email, username, "1234"));
+    }
+
+    private long findCommentCount(Long articleId) {
+        testEntityManager.flush();
+        testEntityManager.clear();
+        return testEntityManager.find(ArticleCount.class, articleId).getCommentCount();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commentRepository.deleteAllInBatch();
+        articleCountRepository.deleteAllInBatch();
+        articleRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("커밋된 댓글 작성, 일괄 작성, 삭제의 증감량을 누적했다가 flush 시 한 번에 반영한다.")
+    public void flushCommittedCommentCounts() {
+        // given
+        User writer = userRepository.save(UserConverter.toUser("test@mail.com", "user", "1234"));
+        Article article = articleRepository.save(ArticleConverter.toArticle("Test1", "test1", writer));
+        articleCountRepository.save(ArticleConverter.toArticleCount(article));
+        UserPrincipal principal = UserPrincipal.create(writer);
+
+        CommentResponse.CommentDto comment = commentService.postComment(
+                new CommentRequest.PostCommentDto(article.getArticleId(), "comment1"), principal);
+        commentService.postCommentBulk(
+                new CommentRequest.PostCommentBulkDto(article.getArticleId(), List.of("comment2", "comment3")), principal);
+        commentService.deleteComment(comment.getCommentId(), principal);
+
+        assertThat(commentCountAccumulator.getPending(article.getArticleId())).isEqualTo(2);
+        assertThat(articleCountRepository.findById(article.getArticleId()).orElseThrow().getCommentCount()).isZero();
+
+        // when
+        commentCountAccumulator.flush();
+
+        // then
+        assertThat(commentCountAccumulator.getPending(article.getArticleId())).isZero();
+        assertThat(articleCountRepository.findById(article.getArticleId()).orElseThrow().getCommentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("댓글 작성 시 Article만 조회하고, 작성자 User는 조회하지 않고 principal의 email로 응답한다.")
+    public void postCommentWithoutLoadingUser() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        Article article = testEntityManager.persist(ArticleConverter.toArticle("Test1", "test1", writer));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        CommentResponse.CommentDto result = commentService.postComment(
+                new CommentRequest.PostCommentDto(article.getArticleId(), "comment1"), UserPrincipal.create(writer));
+        testEntityManager.flush();
+
+        // then
+        assertThat(result.getEmail()).isEqualTo("test@mail.com");
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("하나의 게시글에 댓글 목록을 일괄 작성하고, 작성된 댓글 정보를 순서대로 반환한다.")
+    public void postCommentBulk() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        Article article = testEntityManager.persist(ArticleConverter.toArticle("Test1", "test1", writer));
+        testEntityManager.flush();
+
+        // when
+        List<CommentResponse.CommentDto> result = commentService.postCommentBulk(
+                new CommentRequest.PostCommentBulkDto(article.getArticleId(), List.of("comment1", "comment2", "comment3")),
+                UserPrincipal.create(writer));
+        testEntityManager.flush();
+
+        // then
+        assertThat(result).extracting(CommentResponse.CommentDto::getContent)
+                .containsExactly("comment1", "comment2", "comment3");
+        assertThat(result).allSatisfy(comment -> assertThat(comment.getCommentId()).isNotNull());
+        assertThat(commentRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("max-size개를 넘는 댓글 일괄 작성 요청은 저장하지 않고 거부한다.")
+    public void postCommentBulkOverMaxSize() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        Article article = testEntityManager.persist(ArticleConverter.toArticle("Test1", "test1", writer));
+        testEntityManager.flush();
+        CommentRequest.PostCommentBulkDto request = new CommentRequest.PostCommentBulkDto(
+                article.getArticleId(), List.of("comment1", "comment2", "comment3", "comment4"));
+
+        // when&then
+        assertThatThrownBy(() -> commentService.postCommentBulk(request, UserPrincipal.create(writer)))
+                .isInstanceOf(GeneralException.class)
+                .extracting("baseErrorCode")
+                .isEqualTo(ErrorStatus.TOO_MANY_BULK_ITEMS);
+        assertThat(commentRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("articleId, contentList가 없는 일괄 작성 요청은 NOT_FOUND_ARTICLE, INVALID_CONTENT로 거부한다.")
+    public void postCommentBulkWithMissingFields() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        Article article = testEntityManager.persist(ArticleConverter.toArticle("Test1", "test1", writer));
+        testEntityManager.flush();
+        UserPrincipal principal = UserPrincipal.create(writer);
+
+        // when&then
+        assertThatThrownBy(() -> commentService.postCommentBulk(
+                new CommentRequest.PostCommentBulkDto(null, List.of("comment1")), principal))
+                .isInstanceOf(GeneralException.class)
+                .extracting("baseErrorCode")
+                .isEqualTo(ErrorStatus.NOT_FOUND_ARTICLE);
+        assertThatThrownBy(() -> commentService.postCommentBulk(
+                new CommentRequest.PostCommentBulkDto(article.getArticleId(), null), principal))
+                .isInstanceOf(GeneralException.class)
+                .extracting("baseErrorCode")
+                .isEqualTo(ErrorStatus.INVALID_CONTENT);
+        assertThat(commentRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("rollback된 댓글 작성은 댓글 수에 집계하지 않는다.")
+    public void skipRolledBackComments() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        Article article = testEntityManager.persist(ArticleConverter.toArticle("Test1", "test1", writer));
+        testEntityManager.flush();
+
+        // when
+        commentService.postComment(new CommentRequest.PostCommentDto(article.getArticleId(), "comment1"),
+                UserPrincipal.create(writer));
+        assertThat(commentCountAccumulator.getPending(article.getArticleId())).isZero();
+        TestTransaction.end();
+
+        // then
+        assertThat(commentCountAccumulator.getPending(article.getArticleId())).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 수 보정 작업은 batch 단위로 실제 Comment 개수와 다른 게시글만 보정한다.")
+    public void reconcileCommentCountInBatches() {
+        // given
+        User writer = saveUser("test@mail.com", "user");
+        Article drifted = testEntityManager.persist(ArticleConverter.toArticle("Test1", "test1", writer));
+        Article empty = testEntityManager.persist(ArticleConverter.toArticle("Test2", "test2", writer));
+        Article last = testEntityManager.persist(ArticleConverter.toArticle("Test3", "test3", writer));
+        for (int i = 0; i < 3; i++) {
+            testEntityManager.persist(CommentConverter.toComment("comment" + i, writer, drifted));
+            testEntityManager.persist(CommentConverter.toComment("reply" + i, writer, last));
+        }
+        testEntityManager.flush();
+
+        // when
+        int reconciled = commentCountReconciler.reconcile();
+
+        // then
+        assertThat(reconciled).isEqualTo(2);
+        assertThat(findCommentCount(drifted.getArticleId())).isEqualTo(3);
+        assertThat(findCommentCount(empty.getArticleId())).isZero();
+        assertThat(findCommentCount(last.getArticleId())).isEqualTo(3);
+    }
+}
@@ -0,0 +1,82 @@
+package yourssu.backend;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yourssu.backend.common.util.CounterBuffer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CounterBufferTest {
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 100_000;
+    private static final long BALANCED_KEY = 1L;
+    private static final long INCREASING_KEY = 2L;
+
+    @Test
+    @DisplayName("증감량을 key 오름차순으로 꺼내고, 꺼낸 뒤에는 0으로 초기화한다.")
+    public void drain() {
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add(2L, 3);
+        buffer.add(1L, 1);
+        buffer.add(2L, -1);
+
+        assertThat(buffer.drain()).containsExactly(Map.entry(1L, 1L), Map.entry(2L, 2L));
+        assertThat(buffer.drain()).isEmpty();
+        // 변경이 없던 key는 두 번째 drain에서 제거
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 증감량을 더하는 동안 drain해도 누락 없이 모두 꺼낸다.")
+    public void drainWhileAdding() throws Exception {
+        // given
+        CounterBuffer buffer = new CounterBuffer();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean adding = new AtomicBoolean(true);
+        Map<Long, Long> drained = new HashMap<>();
+
+        // BALANCED_KEY는 +1, -1을 번갈아 더해 drain 시점에 자주 0이 되어 제거 대상이 됨
+        Future<?>[] writers = new Future<?>[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            writers[i] = executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < ITERATIONS; j++) {
+                    buffer.add(BALANCED_KEY, j % 2 == 0 ? 1 : -1);
+                    buffer.add(INCREASING_KEY, 1);
+                }
+                return null;
+            });
+        }
+        Future<?> drainer = executor.submit(() -> {
+            start.await();
+            while (adding.get()) {
+                buffer.drain().forEach((key, delta) -> drained.merge(key, delta, Long::sum));
+            }
+            return null;
+        });
+
+        // when
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        adding.set(false);
+        drainer.get(30, TimeUnit.SECONDS);
+        buffer.drain().forEach((key, delta) -> drained.merge(key, delta, Long::sum));
+        executor.shutdown();
+
+        // then
+        assertThat(drained.getOrDefault(BALANCED_KEY, 0L)).isZero();
+        assertThat(drained.get(INCREASING_KEY)).isEqualTo((long) THREADS * ITERATIONS);
+    }
+}
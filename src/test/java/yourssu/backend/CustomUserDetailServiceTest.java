@@ -0,0 +1,60 @@
+package yourssu.backend;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yourssu.backend.common.security.CustomUserDetailService;
+import yourssu.backend.domain.converter.UserConverter;
+import yourssu.backend.domain.entity.User;
+import yourssu.backend.domain.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CustomUserDetailServiceTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CustomUserDetailService customUserDetailService = new CustomUserDetailService(
+            userRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+
+    @Test
+    @DisplayName("캐싱된 principal은 DB를 다시 조회하지 않는다.")
+    public void loadFromCache() {
+        // given
+        User user = UserConverter.toUser("test@mail.com", "user", "1234");
+        given(userRepository.findUserByUsername("user")).willReturn(Optional.of(user));
+
+        // when
+        customUserDetailService.loadUserByName("user");
+        customUserDetailService.loadUserByName("user");
+
+        // then
+        verify(userRepository, times(1)).findUserByUsername("user");
+    }
+
+    @Test
+    @DisplayName("조회 도중 evict된 유저는 이전 데이터로 다시 캐싱하지 않는다.")
+    public void skipCachingWhenEvictedDuringLoad() {
+        // given: 첫 번째 조회가 끝나기 전에 비밀번호 변경 등으로 evict 발생
+        User stale = UserConverter.toUser("test@mail.com", "user", "1234");
+        User updated = UserConverter.toUser("test@mail.com", "user", "5678");
+        given(userRepository.findUserByUsername("user"))
+                .willAnswer(invocation -> {
+                    customUserDetailService.evict("test@mail.com", "user");
+                    return Optional.of(stale);
+                })
+                .willReturn(Optional.of(updated));
+
+        // when
+        customUserDetailService.loadUserByName("user");
+
+        // then
+        assertThat(customUserDetailService.loadUserByName("user").getPassword()).isEqualTo("5678");
+        verify(userRepository, times(2)).findUserByUsername("user");
+    }
+}
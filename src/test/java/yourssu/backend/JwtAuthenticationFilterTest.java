@@ -0,0 +1,117 @@
+package yourssu.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import yourssu.backend.common.security.JwtAuthenticationEntryPoint;
+import yourssu.backend.common.security.JwtAuthenticationFilter;
+import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.JwtValidationResult;
+import yourssu.backend.common.security.TokenRevocationList;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class JwtAuthenticationFilterTest {
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final TokenRevocationList tokenRevocationList = mock(TokenRevocationList.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationList);
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setServletPath(uri);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer invalid-token");
+        return request;
+    }
+
+    @Test
+    @DisplayName("permitAll 경로는 Authorization header가 있어도 토큰을 검증하지 않는다.")
+    public void skipPermitAllRoutes() throws Exception {
+        for (String uri : new String[]{"/docs/index.html", "/api/v1/sign-in", "/api/v1/sign-up", "/api/v1/token/refresh"}) {
+            // given
+            MockFilterChain filterChain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request("POST", uri), new MockHttpServletResponse(), filterChain);
+
+            // then
+            assertThat(filterChain.getRequest()).isNotNull();
+        }
+        verifyNoInteractions(jwtTokenProvider, tokenRevocationList);
+    }
+
+    @Test
+    @DisplayName("인증이 필요한 경로는 토큰을 검증하고, 실패 원인을 request attribute로 남긴다.")
+    public void validateProtectedRoutes() throws Exception {
+        // given
+        MockHttpServletRequest request = request("GET", "/api/v1/article");
+        given(jwtTokenProvider.validateToken(anyString())).willReturn(JwtValidationResult.expired());
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        verify(jwtTokenProvider).validateToken("invalid-token");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(request.getAttribute(JwtValidationResult.ATTRIBUTE)).isEqualTo(JwtValidationResult.Status.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("Bearer prefix가 없거나 토큰이 비어 있는 header는 검증하지 않고 형식 오류로 남긴다.")
+    public void rejectMalformedAuthorizationHeader() throws Exception {
+        for (String authorization : new String[]{"Bearer", "Bearer ", "Bearertoken", "Basic dXNlcjpwYXNz"}) {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/article");
+            request.setServletPath("/api/v1/article");
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+            MockFilterChain filterChain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+            // then
+            assertThat(filterChain.getRequest()).isNotNull();
+            assertThat(request.getAttribute(JwtValidationResult.ATTRIBUTE)).isEqualTo(JwtValidationResult.Status.MALFORMED);
+        }
+        verifyNoInteractions(jwtTokenProvider, tokenRevocationList);
+    }
+
+    @Test
+    @DisplayName("실패 원인별로 미리 생성한 401 응답을 반환한다.")
+    public void commenceWithValidationStatus() throws Exception {
+        // given
+        JwtAuthenticationEntryPoint entryPoint = new JwtAuthenticationEntryPoint(new ObjectMapper());
+        MockHttpServletRequest request = request("GET", "/api/v1/article");
+        request.setAttribute(JwtValidationResult.ATTRIBUTE, JwtValidationResult.Status.BAD_SIGNATURE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockHttpServletResponse missingTokenResponse = new MockHttpServletResponse();
+
+        // when
+        entryPoint.commence(request, response, new InsufficientAuthenticationException("unauthorized"));
+        entryPoint.commence(new MockHttpServletRequest(), missingTokenResponse,
+                new InsufficientAuthenticationException("unauthorized"));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("토큰 서명이 유효하지 않습니다.");
+        assertThat(missingTokenResponse.getContentAsString(StandardCharsets.UTF_8)).contains("인증이 필요합니다.");
+    }
+}
@@ -0,0 +1,97 @@
+package yourssu.backend;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yourssu.backend.common.security.JwtKeyRing;
+import yourssu.backend.common.security.JwtSigningProperties;
+
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JwtKeyRingTest {
+    private static final KeyPair RS_KEY_PAIR = Keys.keyPairFor(SignatureAlgorithm.RS256);
+    private static final KeyPair ES_KEY_PAIR = Keys.keyPairFor(SignatureAlgorithm.ES256);
+
+    private static JwtSigningProperties.KeyProperties rsKey(boolean withPrivateKey) {
+        return new JwtSigningProperties.KeyProperties("rs-1", "RS256", null,
+                withPrivateKey ? encode(RS_KEY_PAIR.getPrivate().getEncoded()) : null,
+                encode(RS_KEY_PAIR.getPublic().getEncoded()));
+    }
+
+    private static JwtSigningProperties.KeyProperties esKey(boolean withPrivateKey) {
+        return new JwtSigningProperties.KeyProperties("es-1", "ES256", null,
+                withPrivateKey ? encode(ES_KEY_PAIR.getPrivate().getEncoded()) : null,
+                encode(ES_KEY_PAIR.getPublic().getEncoded()));
+    }
+
+    private static String encode(byte[] key) {
+        return Base64.getEncoder().encodeToString(key);
+    }
+
+    private static String sign(JwtKeyRing keyRing) {
+        return Jwts.builder()
+                .setSubject("access-token")
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
+                .signWith(keyRing.getSigningKey(), keyRing.getSigningAlgorithm())
+                .compact();
+    }
+
+    private static JwtParser parser(JwtKeyRing keyRing) {
+        return Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+    }
+
+    @Test
+    @DisplayName("active key를 교체해도 이전 key로 서명된 토큰은 kid로 검증 key를 선택해 검증한다.")
+    public void verifyWithRotatedKeys() {
+        // given
+        JwtKeyRing before = new JwtKeyRing(new JwtSigningProperties("rs-1", List.of(rsKey(true))));
+        String oldToken = sign(before);
+
+        // when
+        JwtKeyRing after = new JwtKeyRing(new JwtSigningProperties("es-1", List.of(rsKey(false), esKey(true))));
+        String newToken = sign(after);
+
+        // then
+        assertThat(parser(after).parseClaimsJws(oldToken).getHeader().getKeyId()).isEqualTo("rs-1");
+        assertThat(parser(after).parseClaimsJws(newToken).getHeader().getAlgorithm()).isEqualTo("ES256");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 kid로 서명된 토큰은 검증에 실패한다.")
+    public void rejectUnknownKid() {
+        // given
+        JwtKeyRing removed = new JwtKeyRing(new JwtSigningProperties("rs-1", List.of(rsKey(true))));
+        String token = sign(removed);
+
+        // when
+        JwtKeyRing keyRing = new JwtKeyRing(new JwtSigningProperties("es-1", List.of(esKey(true))));
+
+        // then
+        assertThatThrownBy(() -> parser(keyRing).parseClaimsJws(token))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    @DisplayName("개인 키가 없는 인스턴스는 검증만 가능하고 토큰을 발급할 수 없다.")
+    public void verifyOnlyWithoutPrivateKey() {
+        // given
+        String token = sign(new JwtKeyRing(new JwtSigningProperties("es-1", List.of(esKey(true)))));
+
+        // when
+        JwtKeyRing verifyOnly = new JwtKeyRing(new JwtSigningProperties("es-1", List.of(esKey(false))));
+
+        // then
+        assertThat(parser(verifyOnly).parseClaimsJws(token).getBody().getSubject()).isEqualTo("access-token");
+        assertThatThrownBy(verifyOnly::getSigningKey).isInstanceOf(IllegalStateException.class);
+    }
+}
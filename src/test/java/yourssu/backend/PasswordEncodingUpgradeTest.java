@@ -0,0 +1,101 @@
+package yourssu.backend;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import yourssu.backend.common.security.CustomUserDetailService;
+import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.PasswordEncodingUpgrader;
+import yourssu.backend.common.security.RefreshTokenStore;
+import yourssu.backend.common.security.TokenRevocationList;
+import yourssu.backend.domain.converter.UserConverter;
+import yourssu.backend.domain.dto.request.UserRequest;
+import yourssu.backend.domain.repository.UserRepository;
+import yourssu.backend.domain.service.UserService;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserService.class, PasswordEncodingUpgrader.class, CustomUserDetailService.class,
+        SimpleMeterRegistry.class, PasswordEncodingUpgradeTest.PasswordEncoderConfig.class})
+public class PasswordEncodingUpgradeTest {
+    // 테스트 시간을 줄이기 위해 기존 해시는 cost 4, 현재 설정은 cost 5로 구분
+    private static final BCryptPasswordEncoder LEGACY_ENCODER = new BCryptPasswordEncoder(4);
+
+    @TestConfiguration
+    static class PasswordEncoderConfig {
+        @Bean
+        public PasswordEncoder passwordEncoder() {
+            return new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(5)));
+        }
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    private String findPassword(String email) {
+        return userRepository.findUserByEmail(email).orElseThrow().getPassword();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("현재 설정보다 낮은 cost로 저장된 비밀번호는 로그인 이후 비동기로 재해싱해 저장한다.")
+    public void upgradeLegacyHashAfterSignIn() throws InterruptedException {
+        // given
+        String legacyHash = "{bcrypt}" + LEGACY_ENCODER.encode("1234");
+        userRepository.save(UserConverter.toUser("test@mail.com", "user", legacyHash));
+        assertThat(passwordEncoder.upgradeEncoding(legacyHash)).isTrue();
+
+        // when
+        userService.signIn(new UserRequest.SignInDto("test@mail.com", "1234"));
+
+        // then
+        // 재해싱은 @Async로 실행되므로 저장될 때까지 대기
+        String upgraded = findPassword("test@mail.com");
+        for (int i = 0; i < 50 && upgraded.equals(legacyHash); i++) {
+            Thread.sleep(100);
+            upgraded = findPassword("test@mail.com");
+        }
+        assertThat(upgraded).isNotEqualTo(legacyHash);
+        assertThat(passwordEncoder.upgradeEncoding(upgraded)).isFalse();
+        assertThat(passwordEncoder.matches("1234", upgraded)).isTrue();
+    }
+}
@@ -0,0 +1,218 @@
+package yourssu.backend;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import yourssu.backend.common.security.CustomUserDetailService;
+import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.PasswordEncodingUpgrader;
+import yourssu.backend.common.security.RefreshTokenStore;
+import yourssu.backend.common.security.TokenRevocationList;
+import yourssu.backend.common.security.UserPrincipal;
+import yourssu.backend.domain.converter.ArticleConverter;
+import yourssu.backend.domain.converter.UserConverter;
+import yourssu.backend.domain.dto.request.UserRequest;
+import yourssu.backend.domain.entity.Article;
+import yourssu.backend.domain.entity.User;
+import yourssu.backend.domain.repository.ArticleCountRepository;
+import yourssu.backend.domain.repository.ArticleRepository;
+import yourssu.backend.domain.repository.CommentRepository;
+import yourssu.backend.domain.repository.UserRepository;
+import yourssu.backend.domain.service.ArticleService;
+import yourssu.backend.domain.service.UserService;
+import yourssu.backend.domain.service.ViewCountTracker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+// 커밋된 데이터만 second-level cache에 저장되므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = {
+        "article.bulk.chunk-size=2",
+        "article.view-count.flush-interval-ms=3600000"
+})
+@AutoConfigureJson
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ArticleService.class, UserService.class, ViewCountTracker.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheTest {
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleCountRepository articleCountRepository;
+
+    @Autowired
+    private ViewCountTracker viewCountTracker;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private CustomUserDetailService customUserDetailService;
+
+    @MockBean
+    private PasswordEncodingUpgrader passwordEncodingUpgrader;
+
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
+    private Cache cache;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        cache = entityManagerFactory.getCache();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commentRepository.deleteAllInBatch();
+        articleCountRepository.deleteAllInBatch();
+        articleRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        cache.evictAll();
+    }
+
+    @Test
+    @DisplayName("email로 User를 다시 조회하면 DB를 조회하지 않고 second-level cache에서 찾는다.")
+    public void findUserByEmailFromCache() {
+        // given
+        userRepository.save(UserConverter.toUser("test@mail.com", "user", "1234"));
+        cache.evictAll();
+        statistics.clear();
+
+        // when
+        User first = userRepository.findUserByEmail("test@mail.com").orElseThrow();
+        User second = userRepository.findUserByEmail("test@mail.com").orElseThrow();
+
+        // then
+        assertThat(second.getUserId()).isEqualTo(first.getUserId());
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(0);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThan(0);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제한 게시글은 second-level cache에서 제거되어 다시 조회되지 않는다.")
+    public void evictDeletedArticle() {
+        // given
+        User writer = userRepository.save(UserConverter.toUser("test@mail.com", "user", "1234"));
+        Article article = articleRepository.save(ArticleConverter.toArticle("Test1", "test1", writer));
+        articleRepository.findById(article.getArticleId());
+        assertThat(cache.contains(Article.class, article.getArticleId())).isTrue();
+
+        // when
+        articleService.deleteArticle(article.getArticleId(), UserPrincipal.create(writer));
+
+        // then
+        statistics.clear();
+        assertThat(cache.contains(Article.class, article.getArticleId())).isFalse();
+        assertThat(articleRepository.findById(article.getArticleId())).isEmpty();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회수를 반영해도 카운터가 분리되어 있어 캐싱된 게시글은 제거되지 않는다.")
+    public void keepArticleCachedAfterCounterFlush() {
+        // given
+        User writer = userRepository.save(UserConverter.toUser("test@mail.com", "user", "1234"));
+        Article article = articleRepository.save(ArticleConverter.toArticle("Test1", "test1", writer));
+        articleCountRepository.save(ArticleConverter.toArticleCount(article));
+        articleRepository.findById(article.getArticleId());
+        assertThat(cache.contains(Article.class, article.getArticleId())).isTrue();
+
+        // when
+        viewCountTracker.recordView(article.getArticleId(), null);
+        viewCountTracker.flush();
+
+        // then
+        assertThat(cache.contains(Article.class, article.getArticleId())).isTrue();
+        assertThat(articleCountRepository.findById(article.getArticleId()).orElseThrow().getViewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글을 삭제해도 다른 게시글은 second-level cache에 남아있다.")
+    public void keepUnrelatedArticleCachedAfterDelete() {
+        // given
+        User writer = userRepository.save(UserConverter.toUser("test@mail.com", "user", "1234"));
+        Article article = articleRepository.save(ArticleConverter.toArticle("Test1", "test1", writer));
+        Article other = articleRepository.save(ArticleConverter.toArticle("Test2", "test2", writer));
+        articleRepository.findById(article.getArticleId());
+        articleRepository.findById(other.getArticleId());
+        assertThat(cache.contains(Article.class, other.getArticleId())).isTrue();
+
+        // when
+        articleService.deleteArticle(article.getArticleId(), UserPrincipal.create(writer));
+
+        // then
+        assertThat(cache.contains(Article.class, article.getArticleId())).isFalse();
+        assertThat(cache.contains(Article.class, other.getArticleId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("회원탈퇴 시 탈퇴한 유저와 게시글만 second-level cache에서 제거되고, 다른 유저와 게시글은 남아있다.")
+    public void keepUnrelatedEntitiesCachedAfterWithdrawal() {
+        // given
+        given(passwordEncoder.matches(any(), any())).willReturn(true);
+        User writer = userRepository.save(UserConverter.toUser("test@mail.com", "user", "1234"));
+        User other = userRepository.save(UserConverter.toUser("test2@mail.com", "user2", "1234"));
+        Article article = articleRepository.save(ArticleConverter.toArticle("Test1", "test1", writer));
+        Article otherArticle = articleRepository.save(ArticleConverter.toArticle("Test2", "test2", other));
+        userRepository.findUserByEmail(writer.getEmail());
+        userRepository.findUserByEmail(other.getEmail());
+        articleRepository.findById(article.getArticleId());
+        articleRepository.findById(otherArticle.getArticleId());
+        assertThat(cache.contains(User.class, other.getUserId())).isTrue();
+        assertThat(cache.contains(Article.class, otherArticle.getArticleId())).isTrue();
+
+        // when
+        userService.withdrawal(new UserRequest.WithDrawalDto("test@mail.com", "1234"), UserPrincipal.create(writer));
+
+        // then
+        assertThat(cache.contains(User.class, writer.getUserId())).isFalse();
+        assertThat(cache.contains(Article.class, article.getArticleId())).isFalse();
+        assertThat(cache.contains(User.class, other.getUserId())).isTrue();
+        assertThat(cache.contains(Article.class, otherArticle.getArticleId())).isTrue();
+        assertThat(userRepository.findUserByEmail("test@mail.com")).isEmpty();
+    }
+}
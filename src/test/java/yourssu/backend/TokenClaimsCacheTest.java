@@ -0,0 +1,77 @@
+package yourssu.backend;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yourssu.backend.common.security.TokenClaimsCache;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenClaimsCacheTest {
+    private static final int MAX_SIZE = 100;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenClaimsCache claimsCache;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        claimsCache = new TokenClaimsCache(MAX_SIZE, meterRegistry);
+    }
+
+    private Claims claimsExpiringIn(long millis) {
+        return Jwts.claims().setExpiration(new Date(System.currentTimeMillis() + millis));
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("jwt.claims.cache", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("캐싱된 토큰은 hit, 캐싱되지 않은 토큰은 miss로 집계한다.")
+    public void hitAndMiss() {
+        // given
+        Claims claims = claimsExpiringIn(60_000);
+        claimsCache.put("token", claims);
+
+        // when&then
+        assertThat(claimsCache.get("token")).isSameAs(claims);
+        assertThat(claimsCache.get("other")).isNull();
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("exp가 지난 토큰은 캐싱하지 않고, 캐싱된 토큰은 exp가 지나면 조회되지 않는다.")
+    public void expireAtTokenExpiration() throws InterruptedException {
+        // given
+        claimsCache.put("expired", claimsExpiringIn(-1_000));
+        claimsCache.put("expiring", claimsExpiringIn(200));
+        assertThat(claimsCache.get("expiring")).isNotNull();
+
+        // when
+        Thread.sleep(300);
+
+        // then
+        assertThat(claimsCache.get("expired")).isNull();
+        assertThat(claimsCache.get("expiring")).isNull();
+        assertThat(claimsCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘겨 저장해도 항목 수는 max-size 이하로 유지한다.")
+    public void boundedBySize() {
+        // when
+        for (int i = 0; i < MAX_SIZE * 10; i++) {
+            claimsCache.put("token" + i, claimsExpiringIn(60_000));
+        }
+
+        // then
+        assertThat(claimsCache.size()).isLessThanOrEqualTo(MAX_SIZE);
+    }
+}
@@ -0,0 +1,110 @@
+package yourssu.backend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import yourssu.backend.common.exception.GeneralException;
+import yourssu.backend.common.security.CustomUserDetailService;
+import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.TokenRevocationList;
+import yourssu.backend.common.status.ErrorStatus;
+import yourssu.backend.domain.controller.TokenController;
+import yourssu.backend.domain.dto.request.TokenRequest;
+import yourssu.backend.domain.dto.response.TokenDto;
+import yourssu.backend.domain.service.TokenService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureRestDocs
+@WebMvcTest(controllers = TokenController.class, excludeAutoConfiguration = {SecurityAutoConfiguration.class})
+@AutoConfigureMockMvc(addFilters = false) // 인증인가 필터 제외
+public class TokenControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TokenService tokenService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private JpaMetamodelMappingContext jpaMappingContext;
+
+    @MockBean
+    private CustomUserDetailService customUserDetailService;
+
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
+
+    @Test
+    @DisplayName("refresh token을 RequestBody로 받아 access token, refresh token을 재발급한다.")
+    public void refresh() throws Exception {
+        TokenRequest.RefreshDto request = new TokenRequest.RefreshDto("refresh-token");
+
+        // given
+        given(tokenService.refresh(any()))
+                .willReturn(new TokenDto("new-access-token", "new-refresh-token"));
+
+        // when&then
+        mockMvc.perform(post("/api/v1/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.result").value("SUCCESS"))
+                .andExpect(jsonPath("$.message").value("토큰 재발급에 성공했습니다."))
+                .andExpect(jsonPath("$.data.accessToken").value("new-access-token"))
+                .andExpect(jsonPath("$.data.refreshToken").value("new-refresh-token"))
+                .andDo(document("post-token-refresh",
+                        requestFields(
+                                fieldWithPath("refreshToken").description("로그인, 재발급 시 발급받은 refreshToken")
+                        ),
+                        responseFields(
+                                fieldWithPath("code").description("상태 코드"),
+                                fieldWithPath("result").description("결과 성공 여부"),
+                                fieldWithPath("message").description("결과 메시지"),
+                                fieldWithPath("data.accessToken").description("새로 발급된 accessToken"),
+                                fieldWithPath("data.refreshToken").description("새로 발급된 refreshToken, 기존 refreshToken은 폐기")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("이미 사용된 refresh token으로 요청하면 401을 반환한다.")
+    public void refreshWithReusedToken() throws Exception {
+        TokenRequest.RefreshDto request = new TokenRequest.RefreshDto("used-refresh-token");
+
+        // given
+        given(tokenService.refresh(any()))
+                .willThrow(new GeneralException(ErrorStatus.REUSED_REFRESH_TOKEN));
+
+        // when&then
+        mockMvc.perform(post("/api/v1/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("401"))
+                .andExpect(jsonPath("$.message").value("이미 사용된 refresh token입니다. 다시 로그인해주세요."));
+    }
+}
@@ -0,0 +1,161 @@
+package yourssu.backend;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import yourssu.backend.common.exception.GeneralException;
+import yourssu.backend.common.security.CustomUserDetailService;
+import yourssu.backend.common.security.JpaRefreshTokenStore;
+import yourssu.backend.common.security.JwtKeyRing;
+import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.JwtValidationResult;
+import yourssu.backend.common.security.TokenClaimsCache;
+import yourssu.backend.common.security.TokenRevocationList;
+import yourssu.backend.common.security.UserPrincipal;
+import yourssu.backend.common.status.ErrorStatus;
+import yourssu.backend.domain.dto.request.TokenRequest;
+import yourssu.backend.domain.dto.response.TokenDto;
+import yourssu.backend.domain.repository.RefreshTokenRepository;
+import yourssu.backend.domain.service.TokenService;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TokenService.class, JwtTokenProvider.class, JwtKeyRing.class, JpaRefreshTokenStore.class,
+        TokenClaimsCache.class, TokenRevocationList.class, SimpleMeterRegistry.class})
+public class TokenServiceTest {
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private JwtKeyRing keyRing;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @MockBean
+    private CustomUserDetailService customUserDetailService;
+
+    private String tokenId(String accessToken) {
+        return jwtTokenProvider.validateToken(accessToken).claims().getId();
+    }
+
+    private TokenDto signIn() {
+        return jwtTokenProvider.createToken(UserPrincipal.create(1L, "test@mail.com", "user"));
+    }
+
+    @Test
+    @DisplayName("refresh token으로 재발급하면 새로운 토큰을 발급하고, 사용한 토큰은 재사용할 수 없다.")
+    public void refreshWithRotation() {
+        // given
+        TokenDto token = signIn();
+
+        // when
+        TokenDto refreshed = tokenService.refresh(new TokenRequest.RefreshDto(token.getRefreshToken()));
+
+        // then
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(token.getRefreshToken());
+        assertThat(jwtTokenProvider.validateToken(refreshed.getAccessToken()).isValid()).isTrue();
+        assertThat(jwtTokenProvider.getUserPrincipal(
+                jwtTokenProvider.getRefreshTokenClaims(refreshed.getRefreshToken())).getEmail())
+                .isEqualTo("test@mail.com");
+        assertThat(refreshTokenRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 사용된 refresh token이 다시 사용되면 같은 family의 refresh token, access token을 모두 폐기한다.")
+    public void refreshWithReusedTokenRevokesFamily() {
+        // given
+        TokenDto token = signIn();
+        TokenDto otherSession = signIn();
+        TokenDto refreshed = tokenService.refresh(new TokenRequest.RefreshDto(token.getRefreshToken()));
+
+        // when&then
+        assertThatThrownBy(() -> tokenService.refresh(new TokenRequest.RefreshDto(token.getRefreshToken())))
+                .isInstanceOf(GeneralException.class)
+                .extracting("baseErrorCode").isEqualTo(ErrorStatus.REUSED_REFRESH_TOKEN);
+
+        // 재사용 이후 정상적으로 발급받은 토큰도 폐기되고, 다른 로그인 세션의 토큰은 유지
+        assertThatThrownBy(() -> tokenService.refresh(new TokenRequest.RefreshDto(refreshed.getRefreshToken())))
+                .isInstanceOf(GeneralException.class)
+                .extracting("baseErrorCode").isEqualTo(ErrorStatus.INVALID_REFRESH_TOKEN);
+        assertThat(tokenService.refresh(new TokenRequest.RefreshDto(otherSession.getRefreshToken()))).isNotNull();
+
+        assertThat(tokenRevocationList.isRevoked(tokenId(token.getAccessToken()))).isTrue();
+        assertThat(tokenRevocationList.isRevoked(tokenId(refreshed.getAccessToken()))).isTrue();
+        assertThat(tokenRevocationList.isRevoked(tokenId(otherSession.getAccessToken()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("rollback된 폐기는 반영하지 않아 토큰을 계속 사용할 수 있다.")
+    public void skipRolledBackRevocation() {
+        // given
+        String tokenId = tokenId(signIn().getAccessToken());
+
+        // when
+        tokenRevocationList.revoke(tokenId, LocalDateTime.now().plusMinutes(10));
+        assertThat(tokenRevocationList.isRevoked(tokenId)).isTrue();
+        TestTransaction.end();
+
+        // then
+        assertThat(tokenRevocationList.isRevoked(tokenId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("refresh token으로는 인증할 수 없고, access token으로는 재발급할 수 없다.")
+    public void tokenTypeIsChecked() {
+        // given
+        TokenDto token = signIn();
+
+        // when&then
+        assertThat(jwtTokenProvider.validateToken(token.getRefreshToken()).status())
+                .isEqualTo(JwtValidationResult.Status.MALFORMED);
+        assertThatThrownBy(() -> tokenService.refresh(new TokenRequest.RefreshDto(token.getAccessToken())))
+                .isInstanceOf(GeneralException.class)
+                .extracting("baseErrorCode").isEqualTo(ErrorStatus.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰은 예외 없이 만료, 형식 오류, 서명 오류 결과를 반환한다.")
+    public void validateTokenWithResult() {
+        // given
+        String accessToken = signIn().getAccessToken();
+        String tampered = accessToken.substring(0, accessToken.lastIndexOf('.') + 1) + "invalidSignature";
+        long now = System.currentTimeMillis();
+        String expired = Jwts.builder()
+                .setSubject("access-token")
+                .setIssuedAt(new Date(now - 20_000))
+                .setExpiration(new Date(now - 10_000))
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
+                .signWith(keyRing.getSigningKey(), keyRing.getSigningAlgorithm())
+                .compact();
+
+        // when&then
+        assertThat(jwtTokenProvider.validateToken(accessToken).isValid()).isTrue();
+        assertThat(jwtTokenProvider.validateToken("not-a-token").status()).isEqualTo(JwtValidationResult.Status.MALFORMED);
+        assertThat(jwtTokenProvider.validateToken("a..b").status()).isEqualTo(JwtValidationResult.Status.MALFORMED);
+        assertThat(jwtTokenProvider.validateToken(tampered).status()).isEqualTo(JwtValidationResult.Status.BAD_SIGNATURE);
+        assertThat(jwtTokenProvider.validateToken(expired).status()).isEqualTo(JwtValidationResult.Status.EXPIRED);
+    }
+}
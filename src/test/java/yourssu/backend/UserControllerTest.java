@@ -20,6 +20,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import yourssu.backend.common.exception.GeneralException;
 import yourssu.backend.common.security.CustomUserDetailService;
 import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.TokenRevocationList;
 import yourssu.backend.common.security.UserPrincipal;
 import yourssu.backend.common.status.ErrorStatus;
 import yourssu.backend.domain.controller.UserController;
@@ -69,6 +70,9 @@ public class UserControllerTest {
     @MockBean
     private CustomUserDetailService customUserDetailService;
 
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
 
     @Test
     @DisplayName("username, email, password를 RequestBody로 받아 유저 객체를 생성한다. email, username은 중복을 허용하지 않는다.")
@@ -193,6 +197,25 @@ public class UserControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("해싱 스레드 풀이 포화되어 로그인을 처리할 수 없으면 503을 반환한다.")
+    public void signInWithSaturatedPasswordHashing() throws Exception {
+        UserRequest.SignInDto request = new UserRequest.SignInDto("test@mail.com", "1234");
+
+        // given
+        given(userService.signIn(any()))
+                .willThrow(new GeneralException(ErrorStatus.PASSWORD_HASHING_UNAVAILABLE));
+
+        // when&then
+        mockMvc.perform(post("/api/v1/sign-in")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("503"))
+                .andExpect(jsonPath("$.result").value("FAILURE"))
+                .andExpect(jsonPath("$.message").value("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
     @Test
     @DisplayName("email, password를 RequestBody로 받아 해당 유저 객체를 삭제")
     public void withdrawal() throws Exception {
@@ -0,0 +1,135 @@
+package yourssu.backend;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import yourssu.backend.common.security.CustomUserDetailService;
+import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.PasswordEncodingUpgrader;
+import yourssu.backend.common.security.RefreshTokenStore;
+import yourssu.backend.common.security.TokenRevocationList;
+import yourssu.backend.common.security.UserPrincipal;
+import yourssu.backend.domain.converter.UserConverter;
+import yourssu.backend.domain.dto.request.UserRequest;
+import yourssu.backend.domain.dto.response.TokenDto;
+import yourssu.backend.domain.repository.UserRepository;
+import yourssu.backend.domain.service.UserService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserService.class)
+public class UserServiceTest {
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private CustomUserDetailService customUserDetailService;
+
+    @MockBean
+    private PasswordEncodingUpgrader passwordEncodingUpgrader;
+
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("로그인 시 User는 email(natural id)로 SELECT 1회만 조회하고, 조회한 정보로 토큰을 발급한다.")
+    public void signInWithSingleSelect() {
+        // given
+        testEntityManager.persist(UserConverter.toUser("test@mail.com", "user", "{bcrypt}encoded"));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        given(passwordEncoder.matches(eq("1234"), eq("{bcrypt}encoded"))).willReturn(true);
+        given(passwordEncoder.upgradeEncoding(any())).willReturn(false);
+        given(jwtTokenProvider.createToken(argThat((UserPrincipal principal) ->
+                principal.getEmail().equals("test@mail.com") && principal.getUsername().equals("user"))))
+                .willReturn(new TokenDto("AccessToken", "RefreshToken"));
+
+        // when
+        TokenDto token = userService.signIn(new UserRequest.SignInDto("test@mail.com", "1234"));
+
+        // then
+        assertThat(token.getAccessToken()).isEqualTo("AccessToken");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("회원가입, 로그인 시 비밀번호 해싱은 트랜잭션 밖에서 실행해 해싱을 기다리는 동안 DB 커넥션을 점유하지 않는다.")
+    public void hashPasswordOutsideTransaction() {
+        // given
+        given(passwordEncoder.encode("1234")).willAnswer(invocation -> {
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+            return "{bcrypt}encoded";
+        });
+        given(passwordEncoder.matches("1234", "{bcrypt}encoded")).willAnswer(invocation -> {
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+            return true;
+        });
+        given(passwordEncoder.upgradeEncoding(any())).willReturn(false);
+        given(jwtTokenProvider.createToken(any(UserPrincipal.class)))
+                .willReturn(new TokenDto("AccessToken", "RefreshToken"));
+
+        try {
+            // when
+            userService.signUp(new UserRequest.SignUpDto("test@mail.com", "1234", "user"));
+            TokenDto token = userService.signIn(new UserRequest.SignInDto("test@mail.com", "1234"));
+
+            // then
+            assertThat(token.getAccessToken()).isEqualTo("AccessToken");
+            verify(passwordEncoder).encode("1234");
+            verify(passwordEncoder).matches("1234", "{bcrypt}encoded");
+        } finally {
+            userRepository.deleteAllInBatch();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package yourssu.backend;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import yourssu.backend.common.security.CustomUserDetailService;
+import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.PasswordEncodingUpgrader;
+import yourssu.backend.common.security.RefreshTokenStore;
+import yourssu.backend.common.security.TokenRevocationList;
+import yourssu.backend.common.security.UserPrincipal;
+import yourssu.backend.domain.converter.ArticleConverter;
+import yourssu.backend.domain.converter.CommentConverter;
+import yourssu.backend.domain.converter.UserConverter;
+import yourssu.backend.domain.dto.request.UserRequest;
+import yourssu.backend.domain.entity.Article;
+import yourssu.backend.domain.entity.User;
+import yourssu.backend.domain.repository.UserRepository;
+import yourssu.backend.domain.service.UserService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserService.class)
+public class UserWithdrawalBenchmarkTest {
+    private static final int ARTICLE_COUNT = 10_000;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private CustomUserDetailService customUserDetailService;
+
+    @MockBean
+    private PasswordEncodingUpgrader passwordEncodingUpgrader;
+
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        given(passwordEncoder.matches(any(), any())).willReturn(true);
+    }
+
+    // 게시글마다 본인 댓글 1개, 다른 유저의 댓글 1개를 작성
+    private User saveUserWithContents() {
+        User writer = testEntityManager.persist(UserConverter.toUser("test@mail.com", "user", "1234"));
+        User commenter = testEntityManager.persist(UserConverter.toUser("test2@mail.com", "user2", "1234"));
+
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            Article article = testEntityManager.persist(ArticleConverter.toArticle("Test" + i, "test" + i, writer));
+            testEntityManager.persist(CommentConverter.toComment("comment" + i, writer, article));
+            testEntityManager.persist(CommentConverter.toComment("reply" + i, commenter, article));
+
+            if (i % 1000 == 0) {
+                testEntityManager.flush();
+                testEntityManager.clear();
+            }
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+        return writer;
+    }
+
+    @Test
+    @DisplayName("회원탈퇴 시 게시글 수와 관계없이 댓글, 게시글, 유저를 일괄 삭제한다.")
+    public void withdrawalWithBulkDelete() {
+        // given
+        User writer = saveUserWithContents();
+        UserRequest.WithDrawalDto request = new UserRequest.WithDrawalDto("test@mail.com", "1234");
+
+        // when
+        long start = System.nanoTime();
+        userService.withdrawal(request, UserPrincipal.create(writer));
+        testEntityManager.flush();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        System.out.printf("bulk delete: %d articles, %d statements, %d ms%n",
+                ARTICLE_COUNT, statistics.getPrepareStatementCount(), elapsedMs);
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+        // 유저 조회 1회 + 댓글 수 차감 1회 + 댓글 삭제 2회 + 카운터 삭제 1회 + cascade 대상 게시글, 댓글 목록 조회 2회 + 유저 삭제 1회
+        // 게시글 id 조회, 삭제는 JDBC로 직접 실행되어 집계되지 않음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(8);
+        assertThat(userRepository.findUserByEmail("test@mail.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비교용: cascade 삭제는 게시글, 댓글 수에 비례해 SQL이 실행된다.")
+    public void withdrawalWithCascadeDelete() {
+        // given
+        User writer = saveUserWithContents();
+
+        // when
+        long start = System.nanoTime();
+        userRepository.delete(userRepository.findUserByEmail(writer.getEmail()).orElseThrow());
+        testEntityManager.flush();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        System.out.printf("cascade delete: %d articles, %d statements, %d ms%n",
+                ARTICLE_COUNT, statistics.getPrepareStatementCount(), elapsedMs);
+        assertThat(statistics.getEntityDeleteCount()).isGreaterThan(ARTICLE_COUNT);
+    }
+}
@@ -0,0 +1,152 @@
+package yourssu.backend;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import yourssu.backend.common.security.JwtTokenProvider;
+import yourssu.backend.common.security.UserPrincipal;
+import yourssu.backend.domain.converter.ArticleConverter;
+import yourssu.backend.domain.converter.UserConverter;
+import yourssu.backend.domain.entity.Article;
+import yourssu.backend.domain.entity.User;
+import yourssu.backend.domain.repository.ArticleRepository;
+import yourssu.backend.domain.repository.UserRepository;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 동시 접속 2,000명이 게시글 단건 조회를 반복할 때 platform thread, virtual thread 모드의 처리량 비교
+ * 기본은 H2(test 프로필)로 실행되므로 실제 DB 대기 시간을 반영하려면
+ * -Dspring.datasource.url=jdbc:mysql://... 등으로 MySQL을 지정해 실행
+ */
+@Tag("benchmark")
+public class VirtualThreadLoadTest {
+    private static final int CLIENT_COUNT = 2_000;
+    private static final int REQUESTS_PER_CLIENT = 20;
+
+    abstract static class LoadTest {
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private ArticleRepository articleRepository;
+
+        @Autowired
+        private JwtTokenProvider jwtTokenProvider;
+
+        protected void run(String label) throws Exception {
+            String suffix = UUID.randomUUID().toString().substring(0, 8);
+            User user = userRepository.save(UserConverter.toUser(suffix + "@mail.com", "user" + suffix, "1234"));
+            Article article = articleRepository.save(ArticleConverter.toArticle("Test", "test", user));
+            String accessToken = jwtTokenProvider.createToken(UserPrincipal.create(user)).getAccessToken();
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create("http://localhost:" + port + "/api/v1/article/" + article.getArticleId()))
+                    .header("Authorization", "Bearer " + accessToken)
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+
+            AtomicLong failures = new AtomicLong();
+            long[] latencies = new long[CLIENT_COUNT * REQUESTS_PER_CLIENT];
+            CountDownLatch ready = new CountDownLatch(CLIENT_COUNT);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> clients = new ArrayList<>(CLIENT_COUNT);
+
+            // 클라이언트마다 virtual thread 하나로 요청을 순차 전송해 동시 접속 수를 CLIENT_COUNT로 유지
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < CLIENT_COUNT; c++) {
+                    int clientIndex = c;
+                    clients.add(executor.submit(() -> {
+                        ready.countDown();
+                        start.await();
+                        for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                            long begin = System.nanoTime();
+                            try {
+                                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                                if (response.statusCode() != 200) {
+                                    failures.incrementAndGet();
+                                }
+                            } catch (Exception e) {
+                                failures.incrementAndGet();
+                            }
+                            latencies[clientIndex * REQUESTS_PER_CLIENT + r] = System.nanoTime() - begin;
+                        }
+                        return null;
+                    }));
+                }
+
+                ready.await();
+                long begin = System.nanoTime();
+                start.countDown();
+                for (Future<?> future : clients) {
+                    future.get();
+                }
+                double elapsedSec = (System.nanoTime() - begin) / 1e9;
+
+                Arrays.sort(latencies);
+                System.out.printf("%s: %d clients, %d requests, %.0f req/sec, p50 %.1f ms, p99 %.1f ms, %d failures%n",
+                        label, CLIENT_COUNT, latencies.length, latencies.length / elapsedSec,
+                        percentile(latencies, 0.50), percentile(latencies, 0.99), failures.get());
+            }
+
+            assertThat(failures.get()).isZero();
+        }
+
+        private double percentile(long[] sortedLatencies, double percentile) {
+            return sortedLatencies[(int) ((sortedLatencies.length - 1) * percentile)] / 1e6;
+        }
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = "spring.threads.virtual.enabled=false")
+    @ActiveProfiles("test")
+    class PlatformThreads extends LoadTest {
+        @Test
+        @DisplayName("platform thread 모드: Tomcat 스레드 풀 크기만큼만 동시에 처리한다.")
+        public void loadWithPlatformThreads() throws Exception {
+            run("platform threads");
+        }
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = "spring.threads.virtual.enabled=true")
+    @ActiveProfiles("test")
+    class VirtualThreads extends LoadTest {
+        @Test
+        @DisplayName("virtual thread 모드: 요청마다 virtual thread로 처리하고 DB 동시 접근은 커넥션 풀 크기로 제한한다.")
+        public void loadWithVirtualThreads() throws Exception {
+            run("virtual threads");
+        }
+    }
+}